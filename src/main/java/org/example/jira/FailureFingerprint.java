@@ -0,0 +1,113 @@
+package org.example.jira;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Stable identity for a test failure across runs
+ *
+ * Two failures share a fingerprint when the same test fails with the same error
+ * at the same code path, regardless of volatile details such as line numbers,
+ * timestamps, WebDriver session IDs, ports or generated hashes.
+ * The fingerprint is stored on the JIRA issue as a label ({@value #LABEL_PREFIX}...).
+ */
+final class FailureFingerprint {
+
+    static final String LABEL_PREFIX = "fp-";
+    private static final int MAX_FRAMES = 15;
+    private static final int HASH_LENGTH = 16;
+
+    private static final Pattern LINE_NUMBER = Pattern.compile("\\(([^():]+\\.java):\\d+\\)");
+    private static final Pattern LAMBDA = Pattern.compile("\\$\\$Lambda(\\$\\d+)?(/0x[0-9a-fA-F]+)?(@[0-9a-fA-F]+)?|\\$lambda\\$\\d+");
+    private static final Pattern TIMESTAMP = Pattern.compile("\\d{4}-\\d{2}-\\d{2}[T ]\\d{2}:\\d{2}(:\\d{2}(\\.\\d+)?)?(Z|[+-]\\d{2}:?\\d{2})?|\\b\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?\\b");
+    private static final Pattern UUID_TEXT = Pattern.compile("\\b[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}\\b");
+    private static final Pattern HEX_ID = Pattern.compile("\\b(0x)?[0-9a-fA-F]{12,}\\b");
+    private static final Pattern OBJECT_HASH = Pattern.compile("@[0-9a-fA-F]{4,}\\b");
+    private static final Pattern HOST_PORT = Pattern.compile("(localhost|127\\.0\\.0\\.1|\\[::1]):\\d+");
+    private static final Pattern DURATION = Pattern.compile("\\b\\d+(\\.\\d+)?\\s?(ms|s|seconds|milliseconds)\\b");
+    private static final Pattern LONG_NUMBER = Pattern.compile("\\b\\d{3,}\\b");
+
+    private FailureFingerprint() {
+    }
+
+    /**
+     * Compute the fingerprint of a failure
+     * @param testName fully qualified test name
+     * @param details stack trace as written by Surefire
+     * @return lowercase hex digest, {@value #HASH_LENGTH} characters long
+     */
+    static String of(String testName, String details) {
+        String canonical = testName + "\n" + normalize(details);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest).substring(0, HASH_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static String label(String testName, String details) {
+        return LABEL_PREFIX + of(testName, details);
+    }
+
+    /**
+     * Reduce a stack trace to the parts that identify the failure:
+     * the first exception line and the top frames, without volatile values.
+     */
+    static String normalize(String details) {
+        StringBuilder normalized = new StringBuilder();
+        int frames = 0;
+        boolean headerDone = false;
+        for (String rawLine : details.split("\\R")) {
+            String line = rawLine.trim();
+            if (line.isEmpty() || line.startsWith("...") || isSeleniumDiagnostics(line)) {
+                continue;
+            }
+            if (line.startsWith("at ")) {
+                headerDone = true;
+                if (frames++ >= MAX_FRAMES) {
+                    continue;
+                }
+                line = LINE_NUMBER.matcher(line).replaceAll("($1)");
+                line = LAMBDA.matcher(line).replaceAll("\\$Lambda");
+            } else if (line.startsWith("Caused by:")) {
+                frames = 0;
+                line = scrub(line);
+            } else if (headerDone) {
+                // Continuation of a multi-line message after the frames started: not identifying
+                continue;
+            } else {
+                line = scrub(line);
+            }
+            normalized.append(line).append('\n');
+        }
+        return normalized.toString();
+    }
+
+    private static String scrub(String line) {
+        String value = TIMESTAMP.matcher(line).replaceAll("<time>");
+        value = UUID_TEXT.matcher(value).replaceAll("<uuid>");
+        value = HEX_ID.matcher(value).replaceAll("<id>");
+        value = OBJECT_HASH.matcher(value).replaceAll("@<hash>");
+        value = HOST_PORT.matcher(value).replaceAll("$1:<port>");
+        value = DURATION.matcher(value).replaceAll("<duration>");
+        return LONG_NUMBER.matcher(value).replaceAll("<n>");
+    }
+
+    /**
+     * Lines Selenium appends to every WebDriverException; they only describe the machine and session.
+     */
+    private static boolean isSeleniumDiagnostics(String line) {
+        return line.startsWith("Build info:")
+            || line.startsWith("System info:")
+            || line.startsWith("Driver info:")
+            || line.startsWith("Capabilities {")
+            || line.startsWith("Session ID:")
+            || line.startsWith("Command:")
+            || line.startsWith("Element:")
+            || line.startsWith("For documentation on this error");
+    }
+}
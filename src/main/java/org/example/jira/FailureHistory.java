@@ -0,0 +1,30 @@
+package org.example.jira;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Read-only view of the reporter's failure index for other tools (e.g. failure-first test ordering)
+ */
+public final class FailureHistory {
+
+    private FailureHistory() {
+    }
+
+    /**
+     * @return names of the tests ("Feature name.Scenario name", as in the Surefire reports) that failed at or after {@code since},
+     *         empty if the index does not exist
+     */
+    public static Set<String> testNamesFailedSince(Instant since) throws IOException {
+        Set<String> names = new LinkedHashSet<>();
+        // Read without opening the index: closing it may compact the file under a reporter appending to it
+        for (FailureIndex.Entry entry : FailureIndex.read(JiraMavenReporter.indexFile())) {
+            if (!entry.lastSeen().isBefore(since)) {
+                names.add(entry.testName());
+            }
+        }
+        return names;
+    }
+}
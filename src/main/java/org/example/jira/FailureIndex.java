@@ -0,0 +1,162 @@
+package org.example.jira;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Local, persistent index of reported failures
+ *
+ * Maps a {@link FailureFingerprint} to the JIRA issue raised for it, when it was first
+ * and last seen, and how many times it occurred. Storage is an append-only log with
+ * one tab-separated record per update; the latest record for a fingerprint wins.
+ * The whole log is replayed into a hash map on open, so lookups never touch the disk.
+ * Superseded records are dropped by {@link #compact()}, which runs automatically on
+ * {@link #close()} once they outnumber the live entries.
+ */
+final class FailureIndex implements Closeable {
+
+    private static final int MIN_RECORDS_BEFORE_COMPACTION = 64;
+
+    private final Path file;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private BufferedWriter log;
+    private int records;
+
+    private FailureIndex(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Load the index, creating an empty one if the file does not exist yet
+     */
+    static FailureIndex open(Path file) throws IOException {
+        FailureIndex index = new FailureIndex(file);
+        index.records = replay(file, index.entries);
+        return index;
+    }
+
+    /**
+     * Current entries of the index, for readers that must never write to it: unlike {@link #open}
+     * and {@link #close()}, this never compacts, so it is safe while a reporter is appending
+     */
+    static Collection<Entry> read(Path file) throws IOException {
+        Map<String, Entry> entries = new HashMap<>();
+        replay(file, entries);
+        return entries.values();
+    }
+
+    /**
+     * @return the number of records read
+     */
+    private static int replay(Path file, Map<String, Entry> entries) throws IOException {
+        int records = 0;
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                Entry entry = Entry.parse(line);
+                // A torn last line (killed JVM) is simply ignored
+                if (entry != null) {
+                    entries.put(entry.fingerprint(), entry);
+                    records++;
+                }
+            }
+        }
+        return records;
+    }
+
+    Entry get(String fingerprint) {
+        return entries.get(fingerprint);
+    }
+
+    Collection<Entry> entries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Register an occurrence of a failure reported on {@code issueKey}
+     * @return the updated entry
+     */
+    Entry record(String fingerprint, String issueKey, String testName) throws IOException {
+        Instant now = Instant.now();
+        Entry previous = entries.get(fingerprint);
+        Entry entry = previous == null || !previous.issueKey().equals(issueKey)
+            ? new Entry(fingerprint, issueKey, now, now, 1, testName)
+            : new Entry(fingerprint, issueKey, previous.firstSeen(), now, previous.occurrences() + 1, testName);
+        entries.put(fingerprint, entry);
+        append(entry);
+        return entry;
+    }
+
+    /**
+     * Rewrite the log with one record per fingerprint
+     */
+    void compact() throws IOException {
+        closeLog();
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Entry entry : entries.values()) {
+                writer.write(entry.format());
+                writer.newLine();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        records = entries.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (records > MIN_RECORDS_BEFORE_COMPACTION && records > 2 * entries.size()) {
+            compact();
+        } else {
+            closeLog();
+        }
+    }
+
+    private void append(Entry entry) throws IOException {
+        if (log == null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            log = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        log.write(entry.format());
+        log.newLine();
+        records++;
+    }
+
+    private void closeLog() throws IOException {
+        if (log != null) {
+            log.close();
+            log = null;
+        }
+    }
+
+    record Entry(String fingerprint, String issueKey, Instant firstSeen, Instant lastSeen, int occurrences, String testName) {
+
+        String format() {
+            return String.join("\t", fingerprint, issueKey, firstSeen.toString(), lastSeen.toString(),
+                Integer.toString(occurrences), testName.replaceAll("[\\t\\r\\n]", " "));
+        }
+
+        static Entry parse(String line) {
+            String[] parts = line.split("\t", -1);
+            if (parts.length != 6) {
+                return null;
+            }
+            try {
+                return new Entry(parts[0], parts[1], Instant.parse(parts[2]), Instant.parse(parts[3]), Integer.parseInt(parts[4]), parts[5]);
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.jira;
+
+import org.example.jira.JiraMavenReporter.TestResult;
+import org.example.jira.JiraMavenReporter.TestStatus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lightweight, self-contained HTML summary of the Surefire results
+ *
+ * Built in-process from the parsed TEST-*.xml files so the reporter does not need
+ * to start another Maven build (surefire-report:report-only) to have a readable report.
+ */
+final class HtmlSummaryReport {
+
+    static final String FILE_NAME = "test-summary.html";
+
+    private HtmlSummaryReport() {
+    }
+
+    /**
+     * Write the summary page
+     * @return absolute path of the written file
+     */
+    static Path write(Path file, List<TestResult> results) throws IOException {
+        Map<TestStatus, Integer> counts = new EnumMap<>(TestStatus.class);
+        double totalSeconds = 0;
+        for (TestResult result : results) {
+            counts.merge(result.status(), 1, Integer::sum);
+            totalSeconds += parseSeconds(result.duration());
+        }
+
+        StringBuilder html = new StringBuilder(8192);
+        html.append("<!DOCTYPE html>\n<html lang=\"en\">\n<head>\n<meta charset=\"UTF-8\">\n")
+            .append("<title>Test Summary</title>\n<style>\n")
+            .append("body{font-family:sans-serif;margin:2em;color:#222}")
+            .append("table{border-collapse:collapse;width:100%}")
+            .append("th,td{border:1px solid #ccc;padding:4px 8px;text-align:left;vertical-align:top}")
+            .append("th{background:#f0f0f0}.PASSED{color:#1a7f37}.FAILED,.ERROR{color:#cf222e}.SKIPPED{color:#9a6700}")
+            .append("pre{white-space:pre-wrap;font-size:12px;margin:0}.totals span{margin-right:1.5em}\n")
+            .append("</style>\n</head>\n<body>\n")
+            .append("<h1>Test Summary</h1>\n<p>Generated ")
+            .append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+            .append("</p>\n<p class=\"totals\">")
+            .append("<span>Tests: ").append(results.size()).append("</span>");
+        for (TestStatus status : TestStatus.values()) {
+            html.append("<span class=\"").append(status).append("\">")
+                .append(capitalize(status)).append(": ").append(counts.getOrDefault(status, 0)).append("</span>");
+        }
+        html.append("<span>Time: ").append(String.format(Locale.ROOT, "%.3f", totalSeconds)).append("s</span></p>\n");
+
+        html.append("<table>\n<tr><th>Test</th><th>Status</th><th>Time (s)</th><th>Message</th></tr>\n");
+        for (TestResult result : results) {
+            html.append("<tr><td>").append(escape(result.testName())).append("</td>")
+                .append("<td class=\"").append(result.status()).append("\">").append(result.status()).append("</td>")
+                .append("<td>").append(escape(result.duration())).append("</td><td>");
+            if (result.failed()) {
+                html.append("<details><summary>").append(escape(result.message())).append("</summary>")
+                    .append("<pre>").append(escape(result.details())).append("</pre></details>");
+            }
+            html.append("</td></tr>\n");
+        }
+        html.append("</table>\n</body>\n</html>\n");
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, html, StandardCharsets.UTF_8);
+        return file.toAbsolutePath();
+    }
+
+    private static double parseSeconds(String duration) {
+        try {
+            return Double.parseDouble(duration.replace(",", ""));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String capitalize(TestStatus status) {
+        String name = status.name().toLowerCase(Locale.ROOT);
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
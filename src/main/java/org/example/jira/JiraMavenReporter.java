@@ -1,6 +1,7 @@
 package org.example.jira;
 
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -22,23 +23,32 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 /**
  * JIRA Maven Reporter for Selenium + Cucumber
  *
- * Automatically creates JIRA issues for failed tests with:
+ * Automatically creates JIRA issues for failed tests, or comments on the open issue
+ * already raised for the same failure fingerprint, with:
  * - Test failure details
- * - Surefire HTML reports
+ * - Test summary (generated in-process) and Surefire HTML reports
  * - Cucumber HTML/JSON reports
  * - Screenshots (if available)
  * - Test logs
@@ -49,35 +59,83 @@ public class JiraMavenReporter {
     private static final Path SUREFIRE_DIR = ROOT_DIR.resolve("target").resolve("surefire-reports");
     private static final Path CUCUMBER_DIR = ROOT_DIR.resolve("target").resolve("cucumber-reports");
     private static final Path SCREENSHOTS_DIR = ROOT_DIR.resolve("target").resolve("screenshots");
+    private static final Path TEST_LOGS_DIR = ROOT_DIR.resolve("target").resolve("test-logs");
+    private static final Path DRIVER_LOGS_DIR = ROOT_DIR.resolve("target").resolve("driver-logs");
+    private static final Path TRACES_DIR = ROOT_DIR.resolve("target").resolve("perf").resolve("traces");
+    // After the scenario prefix: "_<correlation ID>" (logs, traces) or "_<yyyyMMdd_HHmmss>" (screenshots)
+    private static final Pattern SCENARIO_FILE_SUFFIX = Pattern.compile("_(?:[0-9a-f]{8}|\\d{8}_\\d{6})[._].*");
     private static final Path ARTIFACTS_DIR = ROOT_DIR.resolve("jira_artifacts");
+    private static final Path STREAMED_FILE = CUCUMBER_DIR.resolve(JiraStreamingPlugin.STREAMED_FILE_NAME);
+    // Jira Cloud rejects bulk requests with more than 50 issue updates
+    private static final int MAX_BULK_SIZE = 50;
+    private static final int DEFAULT_BULK_SIZE = MAX_BULK_SIZE;
+    private static final int MAX_LABELS_PER_SEARCH = 25;
+    private static final Path DEFAULT_INDEX_FILE = ARTIFACTS_DIR.resolve("failure-index.log");
+    private static final long DEFAULT_INDEX_TTL_DAYS = 7;
 
     public static void main(String[] args) throws Exception {
-        loadEnv(ROOT_DIR.resolve(".env"));
-        JiraConfig config = JiraConfig.fromEnv();
-
-        HttpClient client = HttpClient.newHttpClient();
-        String authHeader = basicAuth(config.email(), config.apiToken());
-        String issueTypeId = resolveIssueTypeId(client, config, authHeader);
+        JiraSession session = JiraSession.open();
 
         boolean skipTests = Boolean.parseBoolean(System.getProperty("jira.skip.tests", "false"));
         int testExit = skipTests ? 0 : runCommand(title("Running Maven Tests"), mavenCommand("clean", "test"));
-        int reportExit = runCommand(title("Generating HTML Report"), mavenCommand("-DskipTests", "surefire-report:report-only"));
-
-        List<TestFailure> failures = parseFailures();
+        // The in-process summary below replaces the Maven site report; spawn Maven for it only on request
+        boolean surefireReport = Boolean.parseBoolean(System.getProperty("jira.surefire.report", "false"));
+        int reportExit = surefireReport
+            ? runCommand(title("Generating HTML Report"), mavenCommand("-DskipTests", "surefire-report:report-only"))
+            : 0;
+
+        List<TestResult> results = parseResults();
+        Path summary = HtmlSummaryReport.write(SITE_DIR.resolve(HtmlSummaryReport.FILE_NAME), results);
+        System.out.println("\n[INFO] Test summary written to " + summary);
+
+        // Scenarios that passed on an in-run retry (runner.ScheduledCucumber) are flaky, not failures to report
+        Set<String> flaky = readFlaky();
+        if (!flaky.isEmpty()) {
+            System.out.println("\n[INFO] Flaky tests (passed on retry, not reported):");
+            flaky.forEach(testName -> System.out.println("- " + testName));
+        }
+        List<TestFailure> failures = new ArrayList<>();
+        for (TestResult result : results) {
+            if (result.failed() && !flaky.contains(result.testName())) {
+                failures.add(new TestFailure(result.testName(), result.caseName(), result.duration(), result.message(), result.details()));
+            }
+        }
         if (failures.isEmpty()) {
             System.out.println("\n[OK] All tests passed. No JIRA issues created.");
             System.exit(testExit);
         }
 
-        List<Path> attachments = collectArtifacts();
+        // Failures already handled during the run by JiraStreamingPlugin only need the final reports attached
+        List<ReportedIssue> streamed = JiraStreamingPlugin.readStreamed(STREAMED_FILE);
+        List<TestFailure> pending = notStreamed(failures, streamed);
+
+        List<ReportedIssue> reported = new ArrayList<>(streamed);
+        try (FailureIndex index = FailureIndex.open(indexFile())) {
+            reported.addAll(reportFailures(session, index, pending));
+        }
 
         List<IssueInfo> created = new ArrayList<>();
-        for (TestFailure failure : failures) {
-            System.out.println("\n[INFO] Creating JIRA issue for: " + failure.testName());
-            IssueInfo issue = createIssue(client, config, authHeader, issueTypeId, failure);
-            attachFiles(client, config, authHeader, issue.key(), attachments);
-            created.add(issue);
-            System.out.println("[OK] Issue created: " + issue.key() + " - " + issue.url());
+        List<IssueInfo> updated = new ArrayList<>();
+        List<Path> attachments = null;
+        for (ReportedIssue issue : reported) {
+            if (!issue.created()) {
+                updated.add(issue.issue());
+                continue;
+            }
+            if (attachments == null) {
+                attachments = collectArtifacts();
+            }
+            List<Path> issueAttachments = new ArrayList<>(attachments);
+            Path logsZip = zipLogs(issue.failure());
+            if (logsZip != null) {
+                issueAttachments.add(logsZip);
+            }
+            Path tracesZip = zipTraces(issue.failure());
+            if (tracesZip != null) {
+                issueAttachments.add(tracesZip);
+            }
+            attachFiles(session.client(), session.config(), session.authHeader(), issue.issue().key(), issueAttachments);
+            created.add(issue.issue());
         }
 
         System.out.println("\n" + "=".repeat(80));
@@ -86,6 +144,12 @@ public class JiraMavenReporter {
         for (IssueInfo issue : created) {
             System.out.println("- " + issue.key() + ": " + issue.url());
         }
+        if (!updated.isEmpty()) {
+            System.out.println("\nJIRA Issues Updated (failure already reported)");
+            for (IssueInfo issue : updated) {
+                System.out.println("- " + issue.key() + ": " + issue.url());
+            }
+        }
 
         if (reportExit != 0) {
             System.out.println("[WARNING] HTML report generation failed.");
@@ -98,7 +162,96 @@ public class JiraMavenReporter {
         System.exit(testExit);
     }
 
-    private static void loadEnv(Path envPath) throws IOException {
+    /**
+     * @return the failures not already handled by JiraStreamingPlugin during the run
+     */
+    static List<TestFailure> notStreamed(List<TestFailure> failures, List<ReportedIssue> streamed) {
+        Set<String> streamedTests = new HashSet<>();
+        for (ReportedIssue reported : streamed) {
+            streamedTests.add(reported.failure().testName());
+        }
+        List<TestFailure> pending = new ArrayList<>();
+        for (TestFailure failure : failures) {
+            if (!streamedTests.contains(failure.testName())) {
+                pending.add(failure);
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Comment on the open issue of every already known failure and create issues for the others.
+     * Attachments are left to the caller.
+     * @return one entry per distinct failure fingerprint, in failure order
+     */
+    static List<ReportedIssue> reportFailures(JiraSession session, FailureIndex index, List<TestFailure> failures) throws IOException, InterruptedException {
+        HttpClient client = session.client();
+        JiraConfig config = session.config();
+        String authHeader = session.authHeader();
+
+        // Same test failing the same way (e.g. listed by two reports) only needs one ticket
+        Map<String, TestFailure> byFingerprint = new LinkedHashMap<>();
+        for (TestFailure failure : failures) {
+            byFingerprint.putIfAbsent(FailureFingerprint.of(failure.testName(), failure.details()), failure);
+        }
+
+        // Recently seen issues are trusted locally, without asking Jira; a deleted one is caught when commenting.
+        // Only unknown or stale fingerprints go to JQL
+        Instant staleBefore = Instant.now().minus(Duration.ofDays(Long.getLong("jira.index.ttl.days", DEFAULT_INDEX_TTL_DAYS)));
+        Map<String, String> knownIssues = new HashMap<>();
+        List<String> lookups = new ArrayList<>();
+        for (String fingerprint : byFingerprint.keySet()) {
+            FailureIndex.Entry entry = index.get(fingerprint);
+            if (entry != null && entry.lastSeen().isAfter(staleBefore)) {
+                knownIssues.put(fingerprint, entry.issueKey());
+            } else {
+                lookups.add(fingerprint);
+            }
+        }
+        knownIssues.putAll(findOpenIssues(client, config, authHeader, lookups));
+
+        List<ReportedIssue> reported = new ArrayList<>();
+        List<String> newFingerprints = new ArrayList<>();
+        for (Map.Entry<String, TestFailure> entry : byFingerprint.entrySet()) {
+            String issueKey = knownIssues.get(entry.getKey());
+            CommentResult comment = issueKey == null ? CommentResult.ISSUE_GONE : tryComment(client, config, authHeader, issueKey, entry.getValue());
+            if (comment == CommentResult.ISSUE_GONE) {
+                newFingerprints.add(entry.getKey());
+                continue;
+            }
+            if (comment == CommentResult.FAILED) {
+                // Neither commented nor duplicated: the failure is reported again by the next run
+                System.out.println("[WARNING] Skipped for this run: " + entry.getValue().testName());
+                continue;
+            }
+            FailureIndex.Entry indexed = index.record(entry.getKey(), issueKey, entry.getValue().testName());
+            IssueInfo issue = new IssueInfo(issueKey, config.baseUrl() + "/browse/" + issueKey);
+            reported.add(new ReportedIssue(entry.getValue(), issue, false));
+            System.out.println("[OK] Known failure, commented on: " + issue.key() + " - " + issue.url()
+                + " (" + entry.getValue().testName() + ", seen " + indexed.occurrences() + " times since " + indexed.firstSeen() + ")");
+        }
+
+        if (!newFingerprints.isEmpty()) {
+            List<TestFailure> newFailures = new ArrayList<>();
+            for (String fingerprint : newFingerprints) {
+                newFailures.add(byFingerprint.get(fingerprint));
+            }
+            int bulkSize = Integer.getInteger("jira.bulk.size", DEFAULT_BULK_SIZE);
+            // Recorded as each batch returns, so an error in a later batch cannot make the next run create them again
+            createIssues(client, config, authHeader, session.issueTypeId(), newFailures, bulkSize, (i, issue) -> {
+                index.record(newFingerprints.get(i), issue.key(), newFailures.get(i).testName());
+                reported.add(new ReportedIssue(newFailures.get(i), issue, true));
+                System.out.println("[OK] Issue created: " + issue.key() + " - " + issue.url() + " (" + newFailures.get(i).testName() + ")");
+            });
+        }
+        return reported;
+    }
+
+    static Path indexFile() {
+        return Paths.get(System.getProperty("jira.index.file", DEFAULT_INDEX_FILE.toString()));
+    }
+
+    static void loadEnv(Path envPath) throws IOException {
         if (!Files.exists(envPath)) {
             return;
         }
@@ -148,12 +301,12 @@ public class JiraMavenReporter {
         return System.getProperty("os.name").toLowerCase(Locale.ROOT).contains("win");
     }
 
-    private static List<TestFailure> parseFailures() throws Exception {
+    private static List<TestResult> parseResults() throws Exception {
         if (!Files.isDirectory(SUREFIRE_DIR)) {
             return List.of();
         }
 
-        List<TestFailure> failures = new ArrayList<>();
+        List<TestResult> results = new ArrayList<>();
         try (DirectoryStream<Path> stream = Files.newDirectoryStream(SUREFIRE_DIR, "TEST-*.xml")) {
             for (Path report : stream) {
                 DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
@@ -165,23 +318,48 @@ public class JiraMavenReporter {
                         Element testcase = (Element) testcases.item(i);
                         Element failureNode = getChildElement(testcase, "failure");
                         Element errorNode = getChildElement(testcase, "error");
+                        Element skippedNode = getChildElement(testcase, "skipped");
                         Element issueNode = failureNode != null ? failureNode : errorNode;
-                        if (issueNode == null) {
-                            continue;
-                        }
                         String className = testcase.getAttribute("classname");
                         String name = testcase.getAttribute("name");
                         String duration = testcase.getAttribute("time");
+                        String testName = className.isBlank() ? name : className + "." + name;
+
+                        if (issueNode == null) {
+                            TestStatus status = skippedNode != null ? TestStatus.SKIPPED : TestStatus.PASSED;
+                            results.add(new TestResult(testName, name, duration, status, "", ""));
+                            continue;
+                        }
                         String message = issueNode.getAttribute("message");
                         String details = issueNode.getTextContent();
-                        String testName = className.isBlank() ? name : className + "." + name;
+                        TestStatus status = failureNode != null ? TestStatus.FAILED : TestStatus.ERROR;
+                        results.add(new TestResult(testName, name, duration, status, safeText(message, "No error message"), safeText(details, "No stack trace available")));
+                    }
+                }
+            }
+        }
+        return results;
+    }
 
-                        failures.add(new TestFailure(testName, duration, safeText(message, "No error message"), safeText(details, "No stack trace available")));
+    /**
+     * Test names listed as flaky in the retry classifications (target/cucumber-reports/*-retry.json)
+     */
+    private static Set<String> readFlaky() throws IOException {
+        Set<String> flaky = new HashSet<>();
+        if (!Files.isDirectory(CUCUMBER_DIR)) {
+            return flaky;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(CUCUMBER_DIR, "*-retry.json")) {
+            for (Path file : stream) {
+                JSONArray names = new JSONObject(Files.readString(file, StandardCharsets.UTF_8)).optJSONArray("flaky");
+                if (names != null) {
+                    for (int i = 0; i < names.length(); i++) {
+                        flaky.add(names.getString(i));
                     }
                 }
             }
         }
-        return failures;
+        return flaky;
     }
 
     private static Element getChildElement(Element parent, String tagName) {
@@ -205,7 +383,7 @@ public class JiraMavenReporter {
         Files.createDirectories(ARTIFACTS_DIR);
         List<Path> attachments = new ArrayList<>();
 
-        // Surefire HTML reports
+        // Test summary and Surefire HTML reports
         Path siteZip = ARTIFACTS_DIR.resolve("surefire-site.zip");
         if (zipDirectory(SITE_DIR, siteZip)) {
             attachments.add(siteZip);
@@ -229,12 +407,6 @@ public class JiraMavenReporter {
             attachments.add(screenshotsZip);
         }
 
-        // Test logs
-        Path logsZip = ARTIFACTS_DIR.resolve("test-logs.zip");
-        if (zipLogs(logsZip)) {
-            attachments.add(logsZip);
-        }
-
         return attachments;
     }
 
@@ -259,11 +431,15 @@ public class JiraMavenReporter {
         return Files.exists(zipPath);
     }
 
-    private static boolean zipLogs(Path zipPath) throws IOException {
+    /**
+     * Zip the run logs with the test and ChromeDriver logs of the failed test only
+     * (target/test-logs and target/driver-logs, &lt;test name&gt;_&lt;correlation ID&gt;.log)
+     * @return the zip, or null if there is no log
+     */
+    private static Path zipLogs(TestFailure failure) throws IOException {
         List<Path> files = new ArrayList<>();
         addIfExists(files, ROOT_DIR.resolve("selenium.log"));
         addIfExists(files, ROOT_DIR.resolve("test_output.txt"));
-        addIfExists(files, ROOT_DIR.resolve("target").resolve("chromedriver.log"));
         if (Files.isDirectory(SUREFIRE_DIR)) {
             try (DirectoryStream<Path> stream = Files.newDirectoryStream(SUREFIRE_DIR, "*.txt")) {
                 for (Path path : stream) {
@@ -271,9 +447,46 @@ public class JiraMavenReporter {
                 }
             }
         }
+        String scenario = fileNamePrefix(failure);
+        addScenarioFiles(files, TEST_LOGS_DIR, "*.log", scenario);
+        addScenarioFiles(files, DRIVER_LOGS_DIR, "*.log", scenario);
+        return zip(files, scenario + "-test-logs.zip");
+    }
+
+    /**
+     * Zip the Chrome performance traces of the failed test's slow steps
+     * (target/perf/traces, &lt;test name&gt;_&lt;correlation ID&gt;_&lt;step&gt;.json.gz)
+     * @return the zip, or null if no step was traced
+     */
+    private static Path zipTraces(TestFailure failure) throws IOException {
+        List<Path> files = new ArrayList<>();
+        String scenario = fileNamePrefix(failure);
+        addScenarioFiles(files, TRACES_DIR, "*.json.gz", scenario);
+        return zip(files, scenario + "-traces.zip");
+    }
+
+    private static void addScenarioFiles(List<Path> files, Path dir, String glob, String scenario) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, glob)) {
+            for (Path path : stream) {
+                if (isScenarioFile(path.getFileName().toString(), scenario)) {
+                    files.add(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the zip in jira_artifacts, or null if there is no file
+     */
+    private static Path zip(List<Path> files, String name) throws IOException {
         if (files.isEmpty()) {
-            return false;
+            return null;
         }
+        Files.createDirectories(ARTIFACTS_DIR);
+        Path zipPath = ARTIFACTS_DIR.resolve(name);
         try (ZipOutputStream zipOutput = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(zipPath)))) {
             for (Path file : files) {
                 ZipEntry entry = new ZipEntry(ROOT_DIR.relativize(file).toString().replace("\\", "/"));
@@ -282,7 +495,26 @@ public class JiraMavenReporter {
                 zipOutput.closeEntry();
             }
         }
-        return Files.exists(zipPath);
+        return zipPath;
+    }
+
+    /**
+     * Scenario or test method name of a failure, as used in screenshot and test log file names
+     */
+    static String fileNamePrefix(TestFailure failure) {
+        String name = failure.caseName();
+        if (name.endsWith("()")) {
+            name = name.substring(0, name.length() - 2);
+        }
+        return name.replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+
+    /**
+     * Whether a file belongs to this scenario and not to one whose name merely starts the same way
+     * ("Login" and "Login locked out"): the prefix must be followed by a correlation ID or a timestamp
+     */
+    static boolean isScenarioFile(String fileName, String scenario) {
+        return fileName.startsWith(scenario) && SCENARIO_FILE_SUFFIX.matcher(fileName.substring(scenario.length())).matches();
     }
 
     private static void addIfExists(List<Path> list, Path path) {
@@ -357,19 +589,99 @@ public class JiraMavenReporter {
         );
     }
 
-    private static IssueInfo createIssue(HttpClient client, JiraConfig config, String authHeader, String issueTypeId, TestFailure failure) throws IOException, InterruptedException {
-        String summary = "[Automated Test Failure] " + failure.testName();
-        String description = buildDescription(failure);
+    private interface CreatedIssueHandler {
+        void accept(int failureIndex, IssueInfo issue) throws IOException;
+    }
 
-        JSONObject fields = new JSONObject();
-        fields.put("project", new JSONObject().put("key", config.projectKey()));
-        fields.put("summary", summary);
-        fields.put("description", description);
-        fields.put("issuetype", new JSONObject().put("id", issueTypeId));
-        fields.put("labels", new JSONArray().put("WEB").put("SELENIUM").put("CUCUMBER").put("JAVA").put("MAVEN").put("automated-test"));
+    /**
+     * Create one issue per failure through /rest/api/2/issue/bulk, in batches of {@code bulkSize}.
+     * Elements rejected by Jira inside a batch are retried one by one through {@link #createIssue}.
+     * Each issue is handed to {@code onCreated} as soon as Jira returns its key, so a later error does not lose it;
+     * a batch or retry that fails is logged and its failures are left to the next run.
+     * @param onCreated receives the index in {@code failures} and the created issue
+     */
+    private static void createIssues(HttpClient client, JiraConfig config, String authHeader, String issueTypeId, List<TestFailure> failures, int bulkSize,
+                                     CreatedIssueHandler onCreated) throws IOException, InterruptedException {
+        int batchSize = Math.max(1, Math.min(bulkSize, MAX_BULK_SIZE));
+        List<Integer> rejected = new ArrayList<>();
+
+        for (int start = 0; start < failures.size(); start += batchSize) {
+            List<TestFailure> batch = failures.subList(start, Math.min(start + batchSize, failures.size()));
+            System.out.println("\n[INFO] Creating " + batch.size() + " JIRA issue(s) in bulk");
+
+            JSONArray issueUpdates = new JSONArray();
+            for (TestFailure failure : batch) {
+                issueUpdates.put(new JSONObject().put("fields", buildIssueFields(config, issueTypeId, failure)));
+            }
+            JSONObject body = new JSONObject();
+            body.put("issueUpdates", issueUpdates);
 
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(config.baseUrl() + "/rest/api/2/issue/bulk"))
+                .header("Authorization", "Basic " + authHeader)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+
+            JSONObject result;
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() >= 300 && response.statusCode() != 400) {
+                    throw new IOException(response.statusCode() + " - " + response.body());
+                }
+                result = new JSONObject(response.body());
+            } catch (IOException | JSONException e) {
+                System.out.println("[WARNING] Failed to create " + batch.size() + " issue(s) in bulk, left to the next run: " + e.getMessage());
+                continue;
+            }
+
+            // Jira answers 201 when every element was created and 400 when at least one failed;
+            // "issues" lists the created ones in request order, "errors" points at the rejected indexes.
+            Set<Integer> failedElements = new HashSet<>();
+            JSONArray errors = result.optJSONArray("errors");
+            if (errors != null) {
+                for (int i = 0; i < errors.length(); i++) {
+                    JSONObject error = errors.optJSONObject(i);
+                    if (error == null) {
+                        continue;
+                    }
+                    int element = error.optInt("failedElementNumber", -1);
+                    if (element >= 0 && element < batch.size()) {
+                        failedElements.add(element);
+                        System.out.println("[WARNING] Bulk create rejected " + batch.get(element).testName() + ": " + error.optJSONObject("elementErrors"));
+                    }
+                }
+            }
+
+            JSONArray issues = result.optJSONArray("issues");
+            int next = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                if (failedElements.contains(i) || issues == null || next >= issues.length()) {
+                    rejected.add(start + i);
+                    continue;
+                }
+                String issueKey = issues.getJSONObject(next++).optString("key", "");
+                onCreated.accept(start + i, new IssueInfo(issueKey, config.baseUrl() + "/browse/" + issueKey));
+            }
+        }
+
+        for (int index : rejected) {
+            TestFailure failure = failures.get(index);
+            System.out.println("\n[INFO] Retrying JIRA issue creation for: " + failure.testName());
+            IssueInfo issue;
+            try {
+                issue = createIssue(client, config, authHeader, issueTypeId, failure);
+            } catch (IOException | JSONException e) {
+                System.out.println("[WARNING] Failed to create the issue for " + failure.testName() + ", left to the next run: " + e.getMessage());
+                continue;
+            }
+            onCreated.accept(index, issue);
+        }
+    }
+
+    private static IssueInfo createIssue(HttpClient client, JiraConfig config, String authHeader, String issueTypeId, TestFailure failure) throws IOException, InterruptedException {
         JSONObject body = new JSONObject();
-        body.put("fields", fields);
+        body.put("fields", buildIssueFields(config, issueTypeId, failure));
 
         HttpRequest request = HttpRequest.newBuilder()
             .uri(URI.create(config.baseUrl() + "/rest/api/2/issue"))
@@ -388,7 +700,119 @@ public class JiraMavenReporter {
         return new IssueInfo(issueKey, config.baseUrl() + "/browse/" + issueKey);
     }
 
-    private static void attachFiles(HttpClient client, JiraConfig config, String authHeader, String issueKey, List<Path> files) throws IOException, InterruptedException {
+    /**
+     * Look up unresolved issues already carrying one of the fingerprint labels, with one JQL search per chunk.
+     * A failed search only loses the deduplication of its chunk: those failures get new issues.
+     * @return issue key per fingerprint; fingerprints without an open issue are absent
+     */
+    private static Map<String, String> findOpenIssues(HttpClient client, JiraConfig config, String authHeader, Collection<String> fingerprints) throws InterruptedException {
+        Map<String, String> found = new HashMap<>();
+        List<String> pending = new ArrayList<>(fingerprints);
+        for (int start = 0; start < pending.size(); start += MAX_LABELS_PER_SEARCH) {
+            List<String> chunk = pending.subList(start, Math.min(start + MAX_LABELS_PER_SEARCH, pending.size()));
+            StringBuilder labels = new StringBuilder();
+            for (String fingerprint : chunk) {
+                if (!labels.isEmpty()) {
+                    labels.append(", ");
+                }
+                labels.append('"').append(FailureFingerprint.LABEL_PREFIX).append(fingerprint).append('"');
+            }
+            String jql = "project = \"" + config.projectKey() + "\" AND labels in (" + labels + ") AND statusCategory != Done ORDER BY created DESC";
+            JSONArray issues;
+            try {
+                issues = searchIssues(client, config, authHeader, jql, "labels", chunk.size() * 2);
+            } catch (IOException e) {
+                System.out.println("[WARNING] Could not look up existing issues, creating new ones for " + chunk.size() + " failure(s): " + e.getMessage());
+                continue;
+            }
+            for (int i = 0; i < issues.length(); i++) {
+                JSONObject issue = issues.getJSONObject(i);
+                JSONObject fields = issue.optJSONObject("fields");
+                JSONArray issueLabels = fields == null ? null : fields.optJSONArray("labels");
+                if (issueLabels == null) {
+                    continue;
+                }
+                for (int j = 0; j < issueLabels.length(); j++) {
+                    String label = issueLabels.optString(j, "");
+                    if (label.startsWith(FailureFingerprint.LABEL_PREFIX)) {
+                        // Newest first: keep the most recent open issue for a fingerprint
+                        found.putIfAbsent(label.substring(FailureFingerprint.LABEL_PREFIX.length()), issue.optString("key", ""));
+                    }
+                }
+            }
+        }
+        found.keySet().retainAll(fingerprints);
+        return found;
+    }
+
+    /**
+     * Run a JQL search through /rest/api/3/search/jql (Jira Cloud removed /rest/api/2/search)
+     * @return the matching issues with the requested fields
+     */
+    private static JSONArray searchIssues(HttpClient client, JiraConfig config, String authHeader, String jql, String fields, int maxResults) throws IOException, InterruptedException {
+        String url = config.baseUrl()
+            + "/rest/api/3/search/jql?jql=" + URLEncoder.encode(jql, StandardCharsets.UTF_8)
+            + "&fields=" + URLEncoder.encode(fields, StandardCharsets.UTF_8) + "&maxResults=" + maxResults;
+
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(url))
+            .header("Authorization", "Basic " + authHeader)
+            .header("Accept", "application/json")
+            .GET()
+            .build();
+
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IOException("Failed to search issues: " + response.statusCode() + " - " + response.body());
+        }
+        JSONArray issues = new JSONObject(response.body()).optJSONArray("issues");
+        return issues == null ? new JSONArray() : issues;
+    }
+
+    private enum CommentResult { ADDED, ISSUE_GONE, FAILED }
+
+    /**
+     * Comment on an issue found through the local index, which may have been deleted or moved since
+     * @return ISSUE_GONE only when Jira answers 404 or 410, so a new issue should be created;
+     * FAILED for other errors (5xx, 429, network), which must not create a duplicate
+     */
+    private static CommentResult tryComment(HttpClient client, JiraConfig config, String authHeader, String issueKey, TestFailure failure) throws InterruptedException {
+        JSONObject body = new JSONObject();
+        body.put("body", buildComment(failure));
+
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(config.baseUrl() + "/rest/api/2/issue/" + issueKey + "/comment"))
+            .header("Authorization", "Basic " + authHeader)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+            .build();
+
+        HttpResponse<String> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            System.out.println("[WARNING] Failed to comment on issue " + issueKey + ": " + e.getMessage());
+            return CommentResult.FAILED;
+        }
+        if (response.statusCode() < 300) {
+            return CommentResult.ADDED;
+        }
+        System.out.println("[WARNING] Failed to comment on issue " + issueKey + ": " + response.statusCode() + " - " + response.body());
+        return response.statusCode() == 404 || response.statusCode() == 410 ? CommentResult.ISSUE_GONE : CommentResult.FAILED;
+    }
+
+    private static JSONObject buildIssueFields(JiraConfig config, String issueTypeId, TestFailure failure) {
+        JSONObject fields = new JSONObject();
+        fields.put("project", new JSONObject().put("key", config.projectKey()));
+        fields.put("summary", "[Automated Test Failure] " + failure.testName());
+        fields.put("description", buildDescription(failure));
+        fields.put("issuetype", new JSONObject().put("id", issueTypeId));
+        fields.put("labels", new JSONArray().put("WEB").put("SELENIUM").put("CUCUMBER").put("JAVA").put("MAVEN").put("automated-test")
+            .put(FailureFingerprint.label(failure.testName(), failure.details())));
+        return fields;
+    }
+
+    static void attachFiles(HttpClient client, JiraConfig config, String authHeader, String issueKey, List<Path> files) throws IOException, InterruptedException {
         for (Path file : files) {
             if (!Files.exists(file)) {
                 continue;
@@ -442,23 +866,46 @@ public class JiraMavenReporter {
             + "{code}\n" + failure.details() + "\n{code}\n\n"
             + "----\n\n"
             + "*Reports:*\n"
-            + "- Surefire HTML report (target/site)\n"
+            + "- Test summary and Surefire HTML report (target/site)\n"
             + "- Surefire XML and TXT reports (target/surefire-reports)\n"
             + "- Cucumber HTML and JSON reports (target/cucumber-reports)\n"
             + "- Screenshots on failure (target/screenshots)\n"
-            + "- Test logs (selenium.log, test_output.txt, chromedriver.log when available)\n\n"
+            + "- Test logs (selenium.log, test_output.txt, the test and ChromeDriver logs of this test when available)\n\n"
             + "*Environment:*\n"
             + "- Framework: Selenium + Cucumber + JUnit (Maven)\n"
             + "- Project: selenium-and-cucumber-saucelabs_web\n"
             + "- Browser: Chrome (incognito/headless)\n";
     }
 
+    private static String buildComment(TestFailure failure) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        return "*Failure seen again*\n\n"
+            + "*Test Name:* " + failure.testName() + "\n"
+            + "*Duration:* " + failure.duration() + "s\n"
+            + "*Timestamp:* " + timestamp + "\n\n"
+            + "*Error Message:*\n"
+            + "{code}\n" + failure.message() + "\n{code}\n";
+    }
+
     private static String basicAuth(String email, String token) {
         String value = email + ":" + token;
         return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
     }
 
-    private record JiraConfig(String baseUrl, String email, String apiToken, String projectKey, String issueType) {
+    /**
+     * Authenticated connection to the configured JIRA project
+     */
+    record JiraSession(HttpClient client, JiraConfig config, String authHeader, String issueTypeId) {
+        static JiraSession open() throws IOException, InterruptedException {
+            loadEnv(ROOT_DIR.resolve(".env"));
+            JiraConfig config = JiraConfig.fromEnv();
+            HttpClient client = HttpClient.newHttpClient();
+            String authHeader = basicAuth(config.email(), config.apiToken());
+            return new JiraSession(client, config, authHeader, resolveIssueTypeId(client, config, authHeader));
+        }
+    }
+
+    record JiraConfig(String baseUrl, String email, String apiToken, String projectKey, String issueType) {
         static JiraConfig fromEnv() {
             Map<String, String> env = System.getenv();
             String baseUrl = getEnv(env, "JIRA_BASE_URL");
@@ -491,13 +938,38 @@ public class JiraMavenReporter {
         }
     }
 
-    private record TestFailure(String testName, String duration, String message, String details) {
+    enum TestStatus {
+        PASSED, FAILED, ERROR, SKIPPED
+    }
+
+    /**
+     * @param testName "&lt;class or feature name&gt;.&lt;caseName&gt;"
+     * @param caseName test method or scenario name
+     */
+    record TestResult(String testName, String caseName, String duration, TestStatus status, String message, String details) {
+        boolean failed() {
+            return status == TestStatus.FAILED || status == TestStatus.ERROR;
+        }
+    }
+
+    /**
+     * @param testName "&lt;class or feature name&gt;.&lt;caseName&gt;"
+     * @param caseName test method or scenario name, which may contain dots itself
+     */
+    record TestFailure(String testName, String caseName, String duration, String message, String details) {
+
+        TestFailure(String testName, String duration, String message, String details) {
+            this(testName, testName.substring(testName.lastIndexOf('.') + 1), duration, message, details);
+        }
+    }
+
+    record ReportedIssue(TestFailure failure, IssueInfo issue, boolean created) {
     }
 
     private record IssueTypeInfo(String id, String name) {
     }
 
-    private record IssueInfo(String key, String url) {
+    record IssueInfo(String key, String url) {
     }
 }
 
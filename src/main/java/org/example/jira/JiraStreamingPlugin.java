@@ -0,0 +1,265 @@
+package org.example.jira;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestSourceRead;
+import org.example.jira.JiraMavenReporter.IssueInfo;
+import org.example.jira.JiraMavenReporter.JiraSession;
+import org.example.jira.JiraMavenReporter.ReportedIssue;
+import org.example.jira.JiraMavenReporter.TestFailure;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Cucumber plugin that reports failed scenarios to JIRA while the suite is still running
+ *
+ * Every failed test case is queued as soon as it finishes; a background thread drains the
+ * queue and comments on or creates issues (see {@link JiraMavenReporter#reportFailures}),
+ * uploading the scenario's screenshots right away. Handled scenarios are listed in
+ * target/cucumber-reports/{@value #STREAMED_FILE_NAME} so the post-run JiraMavenReporter
+ * only attaches the final reports to them instead of reporting them again.
+ *
+ * Disabled unless -Djira.stream=true. Test names are built like Surefire names Cucumber test cases,
+ * "&lt;feature name&gt;.&lt;scenario name&gt;", so the post-run reporter recognizes the streamed ones.
+ * With -Dcucumber.retry.count=N only the last retry run streams, so flaky scenarios are never reported.
+ */
+public class JiraStreamingPlugin implements ConcurrentEventListener {
+
+    static final String STREAMED_FILE_NAME = "jira-streamed.tsv";
+    private static final Path STREAMED_FILE = Paths.get("target", "cucumber-reports", STREAMED_FILE_NAME);
+    private static final Path SCREENSHOTS_DIR = Paths.get("target", "screenshots");
+    private static final Path ARTIFACTS_DIR = Paths.get("jira_artifacts");
+    private static final AtomicBoolean STALE_FILE_REMOVED = new AtomicBoolean();
+    private static final TestFailure END_OF_RUN = new TestFailure("", "", "", "");
+
+    private final Map<URI, String> featureNames = new ConcurrentHashMap<>();
+    private final BlockingQueue<TestFailure> queue = new LinkedBlockingQueue<>();
+    private JiraSession session;
+    private FailureIndex index;
+    private volatile Thread worker;
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestSourceRead.class, event -> featureNames.put(event.getUri(), featureName(event.getSource())));
+        publisher.registerHandlerFor(TestRunStarted.class, event -> start());
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> finish());
+    }
+
+    /**
+     * @return the name of the feature in a feature file, or an empty string
+     */
+    static String featureName(String source) {
+        for (String line : source.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("Feature:")) {
+                return trimmed.substring("Feature:".length()).trim();
+            }
+        }
+        return "";
+    }
+
+    /**
+     * @return the test name of a scenario in the Surefire XML: "&lt;feature name&gt;.&lt;scenario name&gt;"
+     */
+    static String testName(String featureName, String scenarioName) {
+        return featureName == null || featureName.isBlank() ? scenarioName : featureName + "." + scenarioName;
+    }
+
+    /**
+     * @return the line of {@value #STREAMED_FILE_NAME} for a handled scenario
+     */
+    static String streamedLine(ReportedIssue issue) {
+        return String.join("\t", Boolean.toString(issue.created()), issue.issue().key(), issue.issue().url(), issue.failure().testName());
+    }
+
+    /**
+     * Read the scenarios already handled by the plugin during the run
+     */
+    static List<ReportedIssue> readStreamed(Path file) throws IOException {
+        List<ReportedIssue> streamed = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return streamed;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] parts = line.split("\t", 4);
+            if (parts.length == 4) {
+                TestFailure failure = new TestFailure(parts[3], "", "", "");
+                streamed.add(new ReportedIssue(failure, new IssueInfo(parts[1], parts[2]), Boolean.parseBoolean(parts[0])));
+            }
+        }
+        return streamed;
+    }
+
+    private void start() {
+        // Results of an earlier run must never hide failures of this one from JiraMavenReporter
+        if (STALE_FILE_REMOVED.compareAndSet(false, true)) {
+            try {
+                Files.deleteIfExists(STREAMED_FILE);
+            } catch (IOException e) {
+                System.err.println("[WARNING] Could not remove " + STREAMED_FILE + ": " + e.getMessage());
+            }
+        }
+        if (!Boolean.getBoolean("jira.stream")) {
+            return;
+        }
+        if (Integer.getInteger("cucumber.retry.count", 0) > 0 && !Boolean.getBoolean("cucumber.retry.last")) {
+            System.out.println("[INFO] JIRA streaming waits for the last retry of the failed scenarios");
+            return;
+        }
+        try {
+            session = JiraSession.open();
+            index = FailureIndex.open(JiraMavenReporter.indexFile());
+        } catch (Exception e) {
+            System.err.println("[WARNING] JIRA streaming disabled: " + e.getMessage());
+            session = null;
+            return;
+        }
+        worker = new Thread(this::drain, "jira-streaming-reporter");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        Result result = event.getResult();
+        if (worker == null || result.getStatus().isOk()) {
+            return;
+        }
+        String scenarioName = event.getTestCase().getName();
+        String testName = testName(featureNames.get(event.getTestCase().getUri()), scenarioName);
+        String duration = String.format(Locale.ROOT, "%.3f", result.getDuration().toMillis() / 1000.0);
+        Throwable error = result.getError();
+        String message = error == null || error.getMessage() == null
+            ? "Scenario finished with status " + result.getStatus()
+            : error.getMessage();
+        String details = error == null ? message : stackTrace(error);
+        queue.add(new TestFailure(testName, scenarioName, duration, message.trim(), details.trim()));
+    }
+
+    private void finish() {
+        Thread running = worker;
+        if (running == null) {
+            return;
+        }
+        queue.add(END_OF_RUN);
+        try {
+            running.join(TimeUnit.SECONDS.toMillis(Long.getLong("jira.stream.drain.seconds", 120)));
+            if (running.isAlive()) {
+                // Whatever is still queued is not listed as streamed and is picked up by JiraMavenReporter
+                System.err.println("[WARNING] JIRA streaming did not finish in time; remaining failures are left to JiraMavenReporter");
+                running.interrupt();
+                running.join();
+            }
+            index.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            System.err.println("[WARNING] Could not save the failure index: " + e.getMessage());
+        }
+        worker = null;
+    }
+
+    /**
+     * Worker loop: wait for a failure, then report it together with whatever queued up meanwhile
+     */
+    private void drain() {
+        try {
+            boolean running = true;
+            while (running) {
+                List<TestFailure> batch = new ArrayList<>();
+                batch.add(queue.take());
+                queue.drainTo(batch);
+                running = !batch.removeIf(failure -> failure == END_OF_RUN);
+                if (!batch.isEmpty()) {
+                    report(batch);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void report(List<TestFailure> batch) throws InterruptedException {
+        try {
+            List<ReportedIssue> reported = JiraMavenReporter.reportFailures(session, index, batch);
+            for (ReportedIssue issue : reported) {
+                if (issue.created()) {
+                    Path screenshots = zipScreenshots(issue.failure());
+                    if (screenshots != null) {
+                        JiraMavenReporter.attachFiles(session.client(), session.config(), session.authHeader(), issue.issue().key(), List.of(screenshots));
+                    }
+                }
+                String line = streamedLine(issue);
+                Files.createDirectories(STREAMED_FILE.getParent());
+                Files.writeString(STREAMED_FILE, line + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        } catch (IOException e) {
+            // Not listed as streamed: JiraMavenReporter will report these after the run
+            System.err.println("[WARNING] JIRA streaming failed for " + batch.size() + " failure(s): " + e.getMessage());
+        }
+    }
+
+    /**
+     * Zip the screenshots taken for the failed scenario, named after it by BaseTest.takeScreenshot
+     * @return the zip, or null if the scenario has no screenshot
+     */
+    private static Path zipScreenshots(TestFailure failure) throws IOException {
+        if (!Files.isDirectory(SCREENSHOTS_DIR)) {
+            return null;
+        }
+        String scenario = JiraMavenReporter.fileNamePrefix(failure);
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(SCREENSHOTS_DIR, "*.png")) {
+            for (Path path : stream) {
+                if (JiraMavenReporter.isScenarioFile(path.getFileName().toString(), scenario)) {
+                    files.add(path);
+                }
+            }
+        }
+        if (files.isEmpty()) {
+            return null;
+        }
+        Files.createDirectories(ARTIFACTS_DIR);
+        Path zip = ARTIFACTS_DIR.resolve(scenario + "-screenshots.zip");
+        try (ZipOutputStream zipOutput = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(zip)))) {
+            for (Path file : files) {
+                zipOutput.putNextEntry(new ZipEntry(file.getFileName().toString()));
+                Files.copy(file, zipOutput);
+                zipOutput.closeEntry();
+            }
+        }
+        return zip;
+    }
+
+    private static String stackTrace(Throwable error) {
+        StringWriter writer = new StringWriter();
+        error.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+}
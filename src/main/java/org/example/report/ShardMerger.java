@@ -0,0 +1,266 @@
+package org.example.report;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Merges the target/ directories of sharded runs (-Dshard.index=i -Dshard.count=n) into one
+ *
+ * - Cucumber JSON reports: features of the same file are joined, scenarios sorted by line
+ * - Retry classifications (*-retry.json): flaky and consistent lists joined
+ * - Surefire TEST-*.xml: test cases of the same suite joined, counters and time summed
+ * - Rerun files, Surefire text reports and JSON-lines files: concatenated
+ * - Screenshots and anything else (e.g. Cucumber HTML reports): copied, with a -shard-&lt;k&gt; suffix on name clashes
+ *
+ * The result has the layout of a single run, so JiraMavenReporter can consume it unchanged.
+ *
+ * Usage: mvn compile exec:java -Dexec.mainClass=org.example.report.ShardMerger -Dexec.args="shard-0/target shard-1/target"
+ * Output: target (or -Dshard.merge.output=&lt;dir&gt;); its merged subdirectories are replaced.
+ */
+public final class ShardMerger {
+
+    private static final List<String> MERGED_DIRS = List.of("cucumber-reports", "surefire-reports", "screenshots", "perf");
+
+    private ShardMerger() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: ShardMerger <shard target dir>...");
+            System.exit(2);
+        }
+        Path output = Paths.get(System.getProperty("shard.merge.output", "target")).toAbsolutePath().normalize();
+        List<Path> shards = new ArrayList<>();
+        for (String arg : args) {
+            Path shard = Paths.get(arg).toAbsolutePath().normalize();
+            if (!Files.isDirectory(shard)) {
+                throw new IllegalArgumentException("Not a directory: " + arg);
+            }
+            if (shard.equals(output)) {
+                throw new IllegalArgumentException("The output directory cannot be one of the shards: " + arg);
+            }
+            shards.add(shard);
+        }
+        int files = merge(shards, output);
+        System.out.println("[INFO] Merged " + files + " file(s) from " + shards.size() + " shard(s) into " + output);
+    }
+
+    /**
+     * @return number of files read from the shards
+     */
+    public static int merge(List<Path> shards, Path output) throws Exception {
+        int files = 0;
+        for (String dir : MERGED_DIRS) {
+            deleteRecursively(output.resolve(dir));
+            for (int k = 0; k < shards.size(); k++) {
+                Path source = shards.get(k).resolve(dir);
+                if (!Files.isDirectory(source)) {
+                    continue;
+                }
+                List<Path> sourceFiles;
+                try (Stream<Path> walk = Files.walk(source)) {
+                    sourceFiles = walk.filter(Files::isRegularFile).sorted().toList();
+                }
+                for (Path file : sourceFiles) {
+                    Path target = output.resolve(dir).resolve(source.relativize(file).toString());
+                    Files.createDirectories(target.getParent());
+                    mergeFile(file, target, k);
+                    files++;
+                }
+            }
+        }
+        return files;
+    }
+
+    private static void mergeFile(Path source, Path target, int shard) throws Exception {
+        String name = source.getFileName().toString();
+        if (!Files.exists(target)) {
+            Files.copy(source, target);
+        } else if (name.endsWith("-retry.json")) {
+            mergeRetryClassification(source, target);
+        } else if (name.endsWith(".json") && isJsonArray(source)) {
+            mergeCucumberJson(source, target);
+        } else if (name.startsWith("TEST-") && name.endsWith(".xml")) {
+            mergeSurefireXml(source, target);
+        } else if (name.endsWith(".txt") || name.endsWith(".tsv") || name.endsWith(".jsonl")) {
+            append(source, target);
+        } else {
+            Files.copy(source, withShardSuffix(target, shard));
+        }
+    }
+
+    /**
+     * Cucumber JSON: an array of features, each with its scenarios ("elements")
+     */
+    private static void mergeCucumberJson(Path source, Path target) throws IOException {
+        Map<String, JSONObject> features = new LinkedHashMap<>();
+        for (Path file : List.of(target, source)) {
+            JSONArray report = new JSONArray(Files.readString(file, StandardCharsets.UTF_8));
+            for (int i = 0; i < report.length(); i++) {
+                JSONObject feature = report.getJSONObject(i);
+                String key = feature.optString("uri", feature.optString("id"));
+                JSONObject merged = features.putIfAbsent(key, feature);
+                if (merged != null) {
+                    JSONArray elements = merged.optJSONArray("elements");
+                    JSONArray added = feature.optJSONArray("elements");
+                    if (elements == null) {
+                        merged.put("elements", added == null ? new JSONArray() : added);
+                    } else if (added != null) {
+                        added.forEach(elements::put);
+                    }
+                }
+            }
+        }
+        JSONArray merged = new JSONArray();
+        for (JSONObject feature : features.values()) {
+            JSONArray elements = feature.optJSONArray("elements");
+            if (elements != null) {
+                feature.put("elements", sortedByLine(elements));
+            }
+            merged.put(feature);
+        }
+        Files.writeString(target, merged.toString(2), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Scenarios in feature order; a background element stays in front of the scenario it ran for
+     */
+    private static JSONArray sortedByLine(JSONArray elements) {
+        List<List<JSONObject>> groups = new ArrayList<>();
+        List<JSONObject> group = new ArrayList<>();
+        for (int i = 0; i < elements.length(); i++) {
+            JSONObject element = elements.getJSONObject(i);
+            group.add(element);
+            if (!"background".equals(element.optString("type"))) {
+                groups.add(group);
+                group = new ArrayList<>();
+            }
+        }
+        if (!group.isEmpty()) {
+            groups.add(group);
+        }
+        groups.sort(Comparator.comparingInt(elementGroup -> elementGroup.get(elementGroup.size() - 1).optInt("line")));
+        JSONArray sorted = new JSONArray();
+        groups.forEach(elementGroup -> elementGroup.forEach(sorted::put));
+        return sorted;
+    }
+
+    private static void mergeRetryClassification(Path source, Path target) throws IOException {
+        JSONObject merged = new JSONObject(Files.readString(target, StandardCharsets.UTF_8));
+        JSONObject added = new JSONObject(Files.readString(source, StandardCharsets.UTF_8));
+        for (String key : List.of("flaky", "consistent")) {
+            Set<Object> names = new LinkedHashSet<>(merged.optJSONArray(key, new JSONArray()).toList());
+            names.addAll(added.optJSONArray(key, new JSONArray()).toList());
+            merged.put(key, new JSONArray(names));
+        }
+        merged.put("attempts", Math.max(merged.optInt("attempts"), added.optInt("attempts")));
+        Files.writeString(target, merged.toString(2), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Surefire XML: one testsuite element with counters and testcase children
+     */
+    private static void mergeSurefireXml(Path source, Path target) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        Document merged;
+        Document added;
+        try (InputStream targetInput = Files.newInputStream(target); InputStream sourceInput = Files.newInputStream(source)) {
+            merged = factory.newDocumentBuilder().parse(targetInput);
+            added = factory.newDocumentBuilder().parse(sourceInput);
+        }
+        Element suite = merged.getDocumentElement();
+        Element addedSuite = added.getDocumentElement();
+        for (String counter : List.of("tests", "failures", "errors", "skipped")) {
+            long sum = parseLong(suite.getAttribute(counter)) + parseLong(addedSuite.getAttribute(counter));
+            suite.setAttribute(counter, Long.toString(sum));
+        }
+        double time = parseDouble(suite.getAttribute("time")) + parseDouble(addedSuite.getAttribute("time"));
+        suite.setAttribute("time", String.format(Locale.ROOT, "%.3f", time));
+
+        NodeList testcases = addedSuite.getElementsByTagName("testcase");
+        for (int i = 0; i < testcases.getLength(); i++) {
+            Node testcase = merged.importNode(testcases.item(i), true);
+            suite.appendChild(testcase);
+        }
+
+        var transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
+        try (OutputStream out = Files.newOutputStream(target)) {
+            transformer.transform(new DOMSource(merged), new StreamResult(out));
+        }
+    }
+
+    private static void append(Path source, Path target) throws IOException {
+        String existing = Files.readString(target, StandardCharsets.UTF_8);
+        String separator = existing.isEmpty() || existing.endsWith("\n") ? "" : System.lineSeparator();
+        Files.writeString(target, separator + Files.readString(source, StandardCharsets.UTF_8), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    private static Path withShardSuffix(Path target, int shard) {
+        String name = target.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String suffixed = dot < 0
+            ? name + "-shard-" + shard
+            : name.substring(0, dot) + "-shard-" + shard + name.substring(dot);
+        return target.resolveSibling(suffixed);
+    }
+
+    private static boolean isJsonArray(Path file) throws IOException {
+        String content = Files.readString(file, StandardCharsets.UTF_8).stripLeading();
+        return content.startsWith("[");
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return value == null || value.isBlank() ? 0 : Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static double parseDouble(String value) {
+        try {
+            return value == null || value.isBlank() ? 0 : Double.parseDouble(value.trim().replace(",", ""));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(dir)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
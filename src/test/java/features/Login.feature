@@ -1,3 +1,4 @@
+@budget-commands=40 @budget-step-commands=15
 Feature: Login - Authentication Scenarios
   As a user
   I want to login to the application
@@ -11,7 +12,7 @@ Feature: Login - Authentication Scenarios
     And the user clicks the login button
     Then the user should be redirected to the inventory page
 
-  @login @negative @invalid-password
+  @login @negative @invalid-password @browserless
   Scenario: Should fail login with invalid password
     Given the user is on the login page
     When the user enters username "standard_user"
@@ -22,7 +23,7 @@ Feature: Login - Authentication Scenarios
     And error icons should be visible
     And both username and password fields should have error styling
 
-  @login @negative @invalid-username
+  @login @negative @invalid-username @browserless
   Scenario: Should fail login with invalid username
     Given the user is on the login page
     When the user enters an invalid username generated by Faker
@@ -1,3 +1,4 @@
+@budget-commands=400 @budget-step-commands=80
 Feature: Product Purchase - Complete Purchase Flow
   As a web user
   I want to select the cheapest product, add to cart and complete purchase
@@ -21,6 +22,11 @@ Feature: Product Purchase - Complete Purchase Flow
     Then the order confirmation should be displayed
     When the user goes back home
     Then the user should be on the products page
+    And the login page should load within 10 s
+    And LCP on the login page should be under 8 s
+    And the inventory page should load within 5 s
+    And the checkout-complete page should load within 5 s
+    And CLS on the inventory page should be under 0.25
 
   @purchase @cart @low-price
   Scenario: Add lowest priced product, verify cart badge, remove and logout
@@ -63,3 +69,11 @@ Feature: Product Purchase - Complete Purchase Flow
     When the user logs out
     And the user logs in again
     Then the shopping cart badge should be "2"
+
+  @purchase @performance
+  Scenario: Repeated logins stay within the page performance budget
+    Given the user is logged in to the website
+    When the user logs in 4 more times
+    Then the p90 load time of the inventory page should be under 3 s
+    And the p90 LCP of the login page should be under 4 s
+    And the p90 TTFB of the login page should be under 2 s
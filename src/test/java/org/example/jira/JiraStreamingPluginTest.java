@@ -0,0 +1,74 @@
+package org.example.jira;
+
+import org.example.jira.JiraMavenReporter.IssueInfo;
+import org.example.jira.JiraMavenReporter.ReportedIssue;
+import org.example.jira.JiraMavenReporter.TestFailure;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Failures streamed during the run must not be reported again by the post-run JiraMavenReporter
+ */
+public class JiraStreamingPluginTest {
+
+    private static final String FEATURE = """
+        @budget-commands=40
+        Feature: Login - Authentication Scenarios
+          As a user
+
+          Scenario: Should fail login with invalid password
+        """;
+
+    @Test
+    public void testNameMatchesSurefire() {
+        // Surefire XML: <testcase name="Should fail login with invalid password" classname="Login - Authentication Scenarios">
+        assertEquals("Login - Authentication Scenarios.Should fail login with invalid password",
+            JiraStreamingPlugin.testName(JiraStreamingPlugin.featureName(FEATURE), "Should fail login with invalid password"));
+    }
+
+    @Test
+    public void streamedFailureIsSkippedByPostRunReporter(@TempDir Path dir) throws IOException {
+        String streamedName = JiraStreamingPlugin.testName(JiraStreamingPlugin.featureName(FEATURE), "Should fail login with invalid password");
+        TestFailure streamedFailure = new TestFailure(streamedName, "3.482", "message", "details");
+        Path streamedFile = dir.resolve(JiraStreamingPlugin.STREAMED_FILE_NAME);
+        Files.writeString(streamedFile, JiraStreamingPlugin.streamedLine(
+            new ReportedIssue(streamedFailure, new IssueInfo("QA-1", "https://jira/browse/QA-1"), true)) + System.lineSeparator(),
+            StandardCharsets.UTF_8);
+
+        // As parsed from the Surefire XML: classname + "." + name
+        TestFailure surefireFailure = new TestFailure("Login - Authentication Scenarios.Should fail login with invalid password", "3.482", "message", "details");
+        TestFailure otherFailure = new TestFailure("Login - Authentication Scenarios.Should fail login with invalid username", "3.628", "message", "details");
+
+        List<TestFailure> pending = JiraMavenReporter.notStreamed(List.of(surefireFailure, otherFailure), JiraStreamingPlugin.readStreamed(streamedFile));
+
+        assertEquals(List.of(otherFailure), pending);
+    }
+
+    @Test
+    public void scenarioNamesThatPrefixEachOtherStayApart(@TempDir Path dir) throws IOException {
+        TestFailure login = new TestFailure("Login.Login", "Login", "1.0", "message", "details");
+        TestFailure lockedOut = new TestFailure("Login.Login locked out", "Login locked out", "1.0", "message", "details");
+        TestFailure dotted = new TestFailure("Login.Login v1.2", "Login v1.2", "1.0", "message", "details");
+        Path streamedFile = dir.resolve(JiraStreamingPlugin.STREAMED_FILE_NAME);
+        Files.writeString(streamedFile, JiraStreamingPlugin.streamedLine(
+            new ReportedIssue(login, new IssueInfo("QA-2", "https://jira/browse/QA-2"), true)) + System.lineSeparator(),
+            StandardCharsets.UTF_8);
+
+        assertEquals(List.of(lockedOut, dotted), JiraMavenReporter.notStreamed(List.of(login, lockedOut, dotted), JiraStreamingPlugin.readStreamed(streamedFile)));
+
+        assertEquals("Login_v1.2", JiraMavenReporter.fileNamePrefix(dotted));
+        assertTrue(JiraMavenReporter.isScenarioFile("Login_3fa85f64.log", JiraMavenReporter.fileNamePrefix(login)));
+        assertTrue(JiraMavenReporter.isScenarioFile("Login_20260101_120000.png", JiraMavenReporter.fileNamePrefix(login)));
+        assertFalse(JiraMavenReporter.isScenarioFile("Login_locked_out_3fa85f64.log", JiraMavenReporter.fileNamePrefix(login)));
+    }
+}
@@ -3,8 +3,11 @@ package pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import support.log.TestLog;
+import support.perf.PagePerformance;
 
 import java.time.Duration;
 import java.util.List;
@@ -12,7 +15,7 @@ import java.util.List;
 /**
  * Page Object for Cart page
  */
-public class CartPage {
+public class CartPage implements PageReadiness {
 
     private final WebDriver driver;
     private final WebDriverWait wait;
@@ -28,6 +31,14 @@ public class CartPage {
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
     }
 
+    /**
+     * Ready once the Checkout button can be clicked
+     */
+    @Override
+    public ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.elementToBeClickable(checkoutButton);
+    }
+
     public boolean isProductInCart(String expectedName, String expectedPrice) {
         try {
             List<WebElement> items = driver.findElements(cartItems);
@@ -35,14 +46,14 @@ public class CartPage {
                 String name = item.findElement(cartItemName).getText();
                 String price = item.findElement(cartItemPrice).getText();
                 if (name.equals(expectedName) && price.equals(expectedPrice)) {
-                    System.out.println("Product verified in cart - Name: " + name + ", Price: " + price);
+                    TestLog.info("Product verified in cart - Name: " + name + ", Price: " + price);
                     return true;
                 }
             }
-            System.err.println("Product not found in cart. Expected: " + expectedName + " " + expectedPrice);
+            TestLog.error("Product not found in cart. Expected: " + expectedName + " " + expectedPrice);
             return false;
         } catch (Exception e) {
-            System.err.println("Error verifying product in cart: " + e.getMessage());
+            TestLog.error("Error verifying product in cart: " + e.getMessage());
             return false;
         }
     }
@@ -50,10 +61,10 @@ public class CartPage {
     public void clickCheckout() {
         try {
             WebElement button = wait.until(ExpectedConditions.elementToBeClickable(checkoutButton));
-            button.click();
-            System.out.println("Clicked Checkout button");
+            PagePerformance.measureTransition(driver, "checkout-information", PageReadiness.arrivedAt("checkout-step-one", new CheckoutPage(driver)), button::click);
+            TestLog.info("Clicked Checkout button");
         } catch (Exception e) {
-            System.err.println("Error clicking checkout: " + e.getMessage());
+            TestLog.error("Error clicking checkout: " + e.getMessage());
             throw new RuntimeException("Failed to click checkout", e);
         }
     }
@@ -64,9 +75,9 @@ public class CartPage {
             for (WebElement button : buttons) {
                 button.click();
             }
-            System.out.println("Removed all items from cart");
+            TestLog.info("Removed all items from cart");
         } catch (Exception e) {
-            System.err.println("Error removing items from cart: " + e.getMessage());
+            TestLog.error("Error removing items from cart: " + e.getMessage());
             throw new RuntimeException("Failed to remove items from cart", e);
         }
     }
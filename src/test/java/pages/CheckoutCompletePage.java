@@ -3,15 +3,18 @@ package pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import support.log.TestLog;
+import support.perf.PagePerformance;
 
 import java.time.Duration;
 
 /**
  * Page Object for Checkout Complete page
  */
-public class CheckoutCompletePage {
+public class CheckoutCompletePage implements PageReadiness {
 
     private final WebDriver driver;
     private final WebDriverWait wait;
@@ -24,14 +27,22 @@ public class CheckoutCompletePage {
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
     }
 
+    /**
+     * Ready once the confirmation header is shown
+     */
+    @Override
+    public ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.visibilityOfElementLocated(thankYouHeader);
+    }
+
     public boolean isThankYouMessageVisible() {
         try {
             WebElement header = wait.until(ExpectedConditions.visibilityOfElementLocated(thankYouHeader));
             boolean isVisible = header.isDisplayed() && header.getText().equals("Thank you for your order!");
-            System.out.println("Thank you message visible: " + isVisible);
+            TestLog.info("Thank you message visible: " + isVisible);
             return isVisible;
         } catch (Exception e) {
-            System.err.println("Thank you message not visible: " + e.getMessage());
+            TestLog.error("Thank you message not visible: " + e.getMessage());
             return false;
         }
     }
@@ -39,10 +50,10 @@ public class CheckoutCompletePage {
     public void clickBackHome() {
         try {
             WebElement button = wait.until(ExpectedConditions.elementToBeClickable(backHomeButton));
-            button.click();
-            System.out.println("Clicked Back Home button");
+            PagePerformance.measureTransition(driver, "inventory", PageReadiness.arrivedAt("inventory.html", new ProductPurchasePage(driver)), button::click);
+            TestLog.info("Clicked Back Home button");
         } catch (Exception e) {
-            System.err.println("Error clicking back home: " + e.getMessage());
+            TestLog.error("Error clicking back home: " + e.getMessage());
             throw new RuntimeException("Failed to click back home", e);
         }
     }
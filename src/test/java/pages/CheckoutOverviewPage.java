@@ -3,15 +3,18 @@ package pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import support.log.TestLog;
+import support.perf.PagePerformance;
 
 import java.time.Duration;
 
 /**
  * Page Object for Checkout Overview page
  */
-public class CheckoutOverviewPage {
+public class CheckoutOverviewPage implements PageReadiness {
 
     private final WebDriver driver;
     private final WebDriverWait wait;
@@ -25,17 +28,25 @@ public class CheckoutOverviewPage {
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
     }
 
+    /**
+     * Ready once the Finish button can be clicked
+     */
+    @Override
+    public ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.elementToBeClickable(finishButton);
+    }
+
     public boolean isProductInOverview(String expectedName, String expectedPrice) {
         try {
             String nameInOverview = driver.findElement(overviewItemName).getText();
             String priceInOverview = driver.findElement(overviewItemPrice).getText();
             boolean matches = nameInOverview.equals(expectedName) && priceInOverview.equals(expectedPrice);
 
-            System.out.println("Product in overview - Name: " + nameInOverview + ", Price: " + priceInOverview);
-            System.out.println("Product matches: " + matches);
+            TestLog.info("Product in overview - Name: " + nameInOverview + ", Price: " + priceInOverview);
+            TestLog.info("Product matches: " + matches);
             return matches;
         } catch (Exception e) {
-            System.err.println("Error verifying product in overview: " + e.getMessage());
+            TestLog.error("Error verifying product in overview: " + e.getMessage());
             return false;
         }
     }
@@ -43,10 +54,10 @@ public class CheckoutOverviewPage {
     public void clickFinish() {
         try {
             WebElement button = wait.until(ExpectedConditions.elementToBeClickable(finishButton));
-            button.click();
-            System.out.println("Clicked Finish button");
+            PagePerformance.measureTransition(driver, "checkout-complete", PageReadiness.arrivedAt("checkout-complete", new CheckoutCompletePage(driver)), button::click);
+            TestLog.info("Clicked Finish button");
         } catch (Exception e) {
-            System.err.println("Error clicking finish: " + e.getMessage());
+            TestLog.error("Error clicking finish: " + e.getMessage());
             throw new RuntimeException("Failed to click finish", e);
         }
     }
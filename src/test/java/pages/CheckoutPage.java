@@ -1,22 +1,25 @@
 package pages;
 
-import com.github.javafaker.Faker;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import support.data.TestDataPool;
+import support.data.TestDataPool.Customer;
+import support.log.TestLog;
+import support.perf.PagePerformance;
 
 import java.time.Duration;
 
 /**
  * Page Object for Checkout: Your Information page
  */
-public class CheckoutPage {
+public class CheckoutPage implements PageReadiness {
 
     private final WebDriver driver;
     private final WebDriverWait wait;
-    private final Faker faker;
 
     private final By firstNameField = By.cssSelector("input[data-test='firstName']");
     private final By lastNameField = By.cssSelector("input[data-test='lastName']");
@@ -26,31 +29,39 @@ public class CheckoutPage {
     public CheckoutPage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
-        this.faker = new Faker();
+    }
+
+    /**
+     * Ready once the first name field can be filled in
+     */
+    @Override
+    public ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.elementToBeClickable(firstNameField);
     }
 
     public void fillCheckoutInformation() {
         try {
-            String firstName = faker.name().firstName();
-            String lastName = faker.name().lastName();
-            String postalCode = faker.number().digits(5);
+            Customer customer = TestDataPool.customer();
+            String firstName = customer.firstName();
+            String lastName = customer.lastName();
+            String postalCode = customer.postalCode();
 
             WebElement firstNameInput = wait.until(ExpectedConditions.elementToBeClickable(firstNameField));
             firstNameInput.clear();
             firstNameInput.sendKeys(firstName);
-            System.out.println("Entered first name: " + firstName);
+            TestLog.info("Entered first name: " + firstName);
 
             WebElement lastNameInput = driver.findElement(lastNameField);
             lastNameInput.clear();
             lastNameInput.sendKeys(lastName);
-            System.out.println("Entered last name: " + lastName);
+            TestLog.info("Entered last name: " + lastName);
 
             WebElement postalCodeInput = driver.findElement(postalCodeField);
             postalCodeInput.clear();
             postalCodeInput.sendKeys(postalCode);
-            System.out.println("Entered postal code: " + postalCode);
+            TestLog.info("Entered postal code: " + postalCode);
         } catch (Exception e) {
-            System.err.println("Error filling checkout information: " + e.getMessage());
+            TestLog.error("Error filling checkout information: " + e.getMessage());
             throw new RuntimeException("Failed to fill checkout information", e);
         }
     }
@@ -58,10 +69,10 @@ public class CheckoutPage {
     public void clickContinue() {
         try {
             WebElement button = driver.findElement(continueButton);
-            button.click();
-            System.out.println("Clicked Continue button");
+            PagePerformance.measureTransition(driver, "checkout-overview", PageReadiness.arrivedAt("checkout-step-two", new CheckoutOverviewPage(driver)), button::click);
+            TestLog.info("Clicked Continue button");
         } catch (Exception e) {
-            System.err.println("Error clicking continue: " + e.getMessage());
+            TestLog.error("Error clicking continue: " + e.getMessage());
             throw new RuntimeException("Failed to click continue", e);
         }
     }
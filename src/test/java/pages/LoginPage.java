@@ -4,14 +4,17 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import support.log.TestLog;
+import support.perf.PagePerformance;
 import java.time.Duration;
 
 /**
  * Page Object Model for Login page
  * Centralizes all selectors and methods related to the login page
  */
-public class LoginPage {
+public class LoginPage implements PageReadiness {
     private WebDriver driver;
     private WebDriverWait wait;
 
@@ -31,14 +34,32 @@ public class LoginPage {
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
     }
 
+    /**
+     * Ready once the login button can be clicked
+     */
+    @Override
+    public ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.elementToBeClickable(loginButton);
+    }
+
+    /**
+     * Site under test, overridable with -Dbase.url (e.g. a local stand-in for load runs)
+     * @return base URL ending with "/"
+     */
+    public static String baseUrl() {
+        String url = System.getProperty("base.url", "https://www.saucedemo.com/");
+        return url.endsWith("/") ? url : url + "/";
+    }
+
     // Navigation methods
 
     /**
      * Navigate to SauceDemo login page
      */
     public void navigateToLoginPage() {
-        driver.get("https://www.saucedemo.com/");
-        System.out.println("✓ Navigated to: https://www.saucedemo.com/");
+        PageReadiness.open(driver, baseUrl(), this);
+        TestLog.info("✓ Navigated to: " + baseUrl());
+        PagePerformance.captureNavigation(driver, "login");
     }
 
     // Input methods
@@ -53,7 +74,7 @@ public class LoginPage {
         ));
         usernameElement.clear();
         usernameElement.sendKeys(username);
-        System.out.println("✓ Username entered: " + username);
+        TestLog.info("✓ Username entered: " + username);
     }
 
     /**
@@ -66,7 +87,7 @@ public class LoginPage {
         ));
         passwordElement.clear();
         passwordElement.sendKeys(password);
-        System.out.println("✓ Password entered: (hidden for security)");
+        TestLog.info("✓ Password entered: (hidden for security)");
     }
 
     // Action methods
@@ -79,7 +100,17 @@ public class LoginPage {
             driver.findElement(loginButton)
         ));
         loginButtonElement.click();
-        System.out.println("✓ Login button clicked");
+        TestLog.info("✓ Login button clicked");
+    }
+
+    /**
+     * Wait until the login attempt has an outcome: the inventory page or an error message
+     */
+    public void waitForLoginOutcome() {
+        wait.until(ExpectedConditions.or(
+            ExpectedConditions.urlContains("inventory"),
+            ExpectedConditions.visibilityOfElementLocated(errorMessageContainer)
+        ));
     }
 
     // Validation methods
@@ -93,10 +124,10 @@ public class LoginPage {
             wait.until(ExpectedConditions.visibilityOf(
                 driver.findElement(errorMessageContainer)
             ));
-            System.out.println("✓ Error message is displayed");
+            TestLog.info("✓ Error message is displayed");
             return true;
         } catch (Exception e) {
-            System.out.println("✗ Error message is NOT displayed");
+            TestLog.warn("✗ Error message is NOT displayed");
             return false;
         }
     }
@@ -110,10 +141,10 @@ public class LoginPage {
             String errorText = wait.until(ExpectedConditions.visibilityOf(
                 driver.findElement(errorMessageContainer)
             )).getText();
-            System.out.println("✓ Error message captured: " + errorText);
+            TestLog.info("✓ Error message captured: " + errorText);
             return errorText;
         } catch (Exception e) {
-            System.out.println("✗ Error capturing message: " + e.getMessage());
+            TestLog.warn("✗ Error capturing message: " + e.getMessage());
             return "";
         }
     }
@@ -126,10 +157,10 @@ public class LoginPage {
         try {
             int errorIconCount = driver.findElements(errorIcon).size();
             boolean hasErrors = errorIconCount > 0;
-            System.out.println("✓ Error icons found: " + errorIconCount);
+            TestLog.info("✓ Error icons found: " + errorIconCount);
             return hasErrors;
         } catch (Exception e) {
-            System.out.println("✗ Error validating icons: " + e.getMessage());
+            TestLog.warn("✗ Error validating icons: " + e.getMessage());
             return false;
         }
     }
@@ -142,7 +173,7 @@ public class LoginPage {
         WebElement element = driver.findElement(usernameField);
         String classes = element.getAttribute("class");
         boolean hasError = classes.contains("error");
-        System.out.println("✓ Username field has error class: " + hasError);
+        TestLog.info("✓ Username field has error class: " + hasError);
         return hasError;
     }
 
@@ -154,7 +185,7 @@ public class LoginPage {
         WebElement element = driver.findElement(passwordField);
         String classes = element.getAttribute("class");
         boolean hasError = classes.contains("error");
-        System.out.println("✓ Password field has error class: " + hasError);
+        TestLog.info("✓ Password field has error class: " + hasError);
         return hasError;
     }
 }
\ No newline at end of file
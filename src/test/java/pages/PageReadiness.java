@@ -0,0 +1,53 @@
+package pages;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import support.perf.CommandBudget;
+
+import java.time.Duration;
+
+/**
+ * Readiness contract of a page: the condition under which a test can start using it
+ *
+ * Navigation ends when the target page is ready rather than when the browser has loaded every
+ * subresource, so the driver can run with the eager or none page load strategy (-Dpage.load.strategy).
+ *
+ * Options:
+ * - -Dpage.ready.timeout=seconds (default 15)
+ * - -Dpage.ready.poll=milliseconds between two checks (default 100)
+ */
+public interface PageReadiness {
+
+    Duration READY_TIMEOUT = Duration.ofSeconds(Long.getLong("page.ready.timeout", 15));
+    Duration READY_POLL = Duration.ofMillis(Long.getLong("page.ready.poll", 100));
+
+    /**
+     * @return condition that holds once the page can be used
+     */
+    ExpectedCondition<?> readyCondition();
+
+    /**
+     * Load a URL and wait until the page is ready
+     */
+    static void open(WebDriver driver, String url, PageReadiness page) {
+        driver.get(url);
+        waitUntilReady(driver, page.readyCondition());
+    }
+
+    /**
+     * End of an in-app navigation: the URL has changed and the target page is ready
+     */
+    static ExpectedCondition<Boolean> arrivedAt(String urlFragment, PageReadiness page) {
+        return ExpectedConditions.and(ExpectedConditions.urlContains(urlFragment), page.readyCondition());
+    }
+
+    /**
+     * Wait for a readiness condition; the polls do not count against the scenario's command budget,
+     * since their number depends on the page load strategy and the network rather than on the test
+     */
+    static void waitUntilReady(WebDriver driver, ExpectedCondition<?> ready) {
+        CommandBudget.uncounted(() -> new WebDriverWait(driver, READY_TIMEOUT, READY_POLL).until(ready));
+    }
+}
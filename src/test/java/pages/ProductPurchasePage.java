@@ -5,9 +5,12 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import support.log.TestLog;
+import support.perf.PagePerformance;
 
 import java.time.Duration;
 import java.util.List;
@@ -16,7 +19,7 @@ import java.util.List;
  * Page Object for Product Purchase flow
  * Contains all elements and actions for the complete purchase flow
  */
-public class ProductPurchasePage {
+public class ProductPurchasePage implements PageReadiness {
 
     private WebDriver driver;
     private WebDriverWait wait;
@@ -43,6 +46,14 @@ public class ProductPurchasePage {
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
     }
 
+    /**
+     * Ready once the inventory items are in the page
+     */
+    @Override
+    public ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.presenceOfAllElementsLocatedBy(inventoryItems);
+    }
+
     /**
      * Wait for page to stabilize after sorting or navigation changes
      * Ensures products list is fully loaded and stable
@@ -57,7 +68,7 @@ public class ProductPurchasePage {
             // Extra buffer for rendering
             Thread.sleep(500);
         } catch (Exception e) {
-            System.out.println("Warning: Page stability wait timed out: " + e.getMessage());
+            TestLog.warn("Warning: Page stability wait timed out: " + e.getMessage());
         }
     }
 
@@ -68,10 +79,10 @@ public class ProductPurchasePage {
         try {
             WebElement title = wait.until(ExpectedConditions.visibilityOfElementLocated(productsTitle));
             boolean isVisible = title.isDisplayed();
-            System.out.println("Products title visible: " + isVisible);
+            TestLog.info("Products title visible: " + isVisible);
             return isVisible;
         } catch (Exception e) {
-            System.err.println("Products title not visible: " + e.getMessage());
+            TestLog.error("Products title not visible: " + e.getMessage());
             return false;
         }
     }
@@ -83,9 +94,9 @@ public class ProductPurchasePage {
         try {
             WebElement dropdown = wait.until(ExpectedConditions.elementToBeClickable(sortDropdown));
             dropdown.click();
-            System.out.println("Clicked on sort dropdown");
+            TestLog.info("Clicked on sort dropdown");
         } catch (Exception e) {
-            System.err.println("Error clicking sort dropdown: " + e.getMessage());
+            TestLog.error("Error clicking sort dropdown: " + e.getMessage());
             throw new RuntimeException("Failed to click sort dropdown", e);
         }
     }
@@ -98,10 +109,10 @@ public class ProductPurchasePage {
             WebElement dropdown = driver.findElement(sortDropdown);
             Select select = new Select(dropdown);
             select.selectByValue("lohi");
-            System.out.println("Selected 'Price (low to high)' sorting");
+            TestLog.info("Selected 'Price (low to high)' sorting");
             waitForPageStability();
         } catch (Exception e) {
-            System.err.println("Error selecting price low to high: " + e.getMessage());
+            TestLog.error("Error selecting price low to high: " + e.getMessage());
             throw new RuntimeException("Failed to select sorting option", e);
         }
     }
@@ -114,10 +125,10 @@ public class ProductPurchasePage {
             WebElement dropdown = driver.findElement(sortDropdown);
             Select select = new Select(dropdown);
             select.selectByValue("hilo");
-            System.out.println("Selected 'Price (high to low)' sorting");
+            TestLog.info("Selected 'Price (high to low)' sorting");
             waitForPageStability();
         } catch (Exception e) {
-            System.err.println("Error selecting price high to low: " + e.getMessage());
+            TestLog.error("Error selecting price high to low: " + e.getMessage());
             throw new RuntimeException("Failed to select sorting option", e);
         }
     }
@@ -126,10 +137,10 @@ public class ProductPurchasePage {
         try {
             WebElement active = wait.until(ExpectedConditions.visibilityOfElementLocated(activeSortOption));
             String text = active.getText();
-            System.out.println("Active sort option: " + text);
+            TestLog.info("Active sort option: " + text);
             return text;
         } catch (Exception e) {
-            System.err.println("Error reading active sort option: " + e.getMessage());
+            TestLog.error("Error reading active sort option: " + e.getMessage());
             return "";
         }
     }
@@ -145,7 +156,7 @@ public class ProductPurchasePage {
             // Get first item price
             String firstPriceText = driver.findElement(firstItemPrice).getText();
             double firstPrice = parsePrice(firstPriceText);
-            System.out.println("First item price: $" + firstPrice);
+            TestLog.info("First item price: $" + firstPrice);
 
             // Check all other prices
             boolean isLowest = true;
@@ -157,15 +168,15 @@ public class ProductPurchasePage {
 
                 if (price < firstPrice) {
                     isLowest = false;
-                    System.err.println("Item at position " + (i + 1) + " has lower price: $" + price);
+                    TestLog.error("Item at position " + (i + 1) + " has lower price: $" + price);
                 }
             }
 
-            System.out.println("First item has lowest price: " + isLowest);
+            TestLog.info("First item has lowest price: " + isLowest);
             return isLowest;
 
         } catch (Exception e) {
-            System.err.println("Error verifying lowest price: " + e.getMessage());
+            TestLog.error("Error verifying lowest price: " + e.getMessage());
             return false;
         }
     }
@@ -177,9 +188,9 @@ public class ProductPurchasePage {
         try {
             productName = driver.findElement(firstItemName).getText();
             productPrice = driver.findElement(firstItemPrice).getText();
-            System.out.println("Stored product info - Name: " + productName + ", Price: " + productPrice);
+            TestLog.info("Stored product info - Name: " + productName + ", Price: " + productPrice);
         } catch (Exception e) {
-            System.err.println("Error storing product info: " + e.getMessage());
+            TestLog.error("Error storing product info: " + e.getMessage());
             throw new RuntimeException("Failed to store product info", e);
         }
     }
@@ -191,9 +202,9 @@ public class ProductPurchasePage {
         try {
             WebElement addButton = driver.findElement(firstItemAddToCartButton);
             addButton.click();
-            System.out.println("Clicked 'Add to cart' button for first item");
+            TestLog.info("Clicked 'Add to cart' button for first item");
         } catch (Exception e) {
-            System.err.println("Error clicking add to cart: " + e.getMessage());
+            TestLog.error("Error clicking add to cart: " + e.getMessage());
             throw new RuntimeException("Failed to click add to cart", e);
         }
     }
@@ -206,10 +217,10 @@ public class ProductPurchasePage {
             By removeButton = By.xpath("(//div[@data-test='inventory-item'])[1]//button[contains(@data-test, 'remove')]");
             WebElement button = wait.until(ExpectedConditions.visibilityOfElementLocated(removeButton));
             boolean isVisible = button.isDisplayed() && button.getText().equals("Remove");
-            System.out.println("Remove button visible: " + isVisible);
+            TestLog.info("Remove button visible: " + isVisible);
             return isVisible;
         } catch (Exception e) {
-            System.err.println("Remove button not visible: " + e.getMessage());
+            TestLog.error("Remove button not visible: " + e.getMessage());
             return false;
         }
     }
@@ -225,7 +236,7 @@ public class ProductPurchasePage {
             try {
                 WebElement badge = wait.until(ExpectedConditions.visibilityOfElementLocated(shoppingCartBadge));
                 int count = Integer.parseInt(badge.getText().trim());
-                System.out.println("Cart badge count (DOM): " + count);
+                TestLog.info("Cart badge count (DOM): " + count);
                 return count;
             } catch (Exception e) {
                 // Fallback: Use JavaScript to check if badge exists
@@ -235,14 +246,14 @@ public class ProductPurchasePage {
 
                 if (result != null) {
                     int count = Integer.parseInt(result.toString().trim());
-                    System.out.println("Cart badge count (JavaScript): " + count);
+                    TestLog.info("Cart badge count (JavaScript): " + count);
                     return count;
                 } else {
                     return 0;
                 }
             }
         } catch (Exception e) {
-            System.out.println("Cart badge not present (cart is empty)");
+            TestLog.info("Cart badge not present (cart is empty)");
             return 0;
         }
     }
@@ -258,10 +269,10 @@ public class ProductPurchasePage {
             int newCount = getCartBadgeCount();
 
             boolean isIncremented = newCount > previousCount;
-            System.out.println("Cart badge incremented: " + isIncremented + " (from " + previousCount + " to " + newCount + ")");
+            TestLog.info("Cart badge incremented: " + isIncremented + " (from " + previousCount + " to " + newCount + ")");
             return isIncremented;
         } catch (Exception e) {
-            System.err.println("Error verifying cart increment: " + e.getMessage());
+            TestLog.error("Error verifying cart increment: " + e.getMessage());
             return false;
         }
     }
@@ -272,10 +283,10 @@ public class ProductPurchasePage {
     public void clickShoppingCart() {
         try {
             WebElement cart = wait.until(ExpectedConditions.elementToBeClickable(shoppingCartLink));
-            cart.click();
-            System.out.println("Clicked shopping cart");
+            PagePerformance.measureTransition(driver, "cart", PageReadiness.arrivedAt("cart.html", new CartPage(driver)), cart::click);
+            TestLog.info("Clicked shopping cart");
         } catch (Exception e) {
-            System.err.println("Error clicking shopping cart: " + e.getMessage());
+            TestLog.error("Error clicking shopping cart: " + e.getMessage());
             throw new RuntimeException("Failed to click shopping cart", e);
         }
     }
@@ -289,9 +300,9 @@ public class ProductPurchasePage {
             menu.click();
             WebElement logout = wait.until(ExpectedConditions.elementToBeClickable(logoutLink));
             logout.click();
-            System.out.println("Logged out successfully");
+            TestLog.info("Logged out successfully");
         } catch (Exception e) {
-            System.err.println("Error during logout: " + e.getMessage());
+            TestLog.error("Error during logout: " + e.getMessage());
             throw new RuntimeException("Logout failed", e);
         }
     }
@@ -301,30 +312,31 @@ public class ProductPurchasePage {
      */
     public void loginStandardUser() {
         try {
-            System.out.println("Starting login flow");
-            driver.get("https://www.saucedemo.com/");
-            System.out.println("Navigated to: https://www.saucedemo.com/");
+            TestLog.info("Starting login flow");
+            PageReadiness.open(driver, LoginPage.baseUrl(), new LoginPage(driver));
+            TestLog.info("Navigated to: " + LoginPage.baseUrl());
+            PagePerformance.captureNavigation(driver, "login");
 
             WebElement usernameField = wait.until(
                 ExpectedConditions.elementToBeClickable(By.id("user-name"))
             );
             usernameField.clear();
             usernameField.sendKeys("standard_user");
-            System.out.println("Entered username: standard_user");
+            TestLog.info("Entered username: standard_user");
 
             WebElement passwordField = driver.findElement(By.id("password"));
             passwordField.clear();
             passwordField.sendKeys("secret_sauce");
-            System.out.println("Entered password: secret_sauce");
+            TestLog.info("Entered password: secret_sauce");
 
             WebElement loginButton = driver.findElement(By.id("login-button"));
-            loginButton.click();
-            System.out.println("Clicked login button");
+            PagePerformance.measureTransition(driver, "inventory", PageReadiness.arrivedAt("inventory.html", this), loginButton::click);
+            TestLog.info("Clicked login button");
 
             wait.until(ExpectedConditions.visibilityOfElementLocated(productsTitle));
-            System.out.println("Login successful - Products page displayed");
+            TestLog.info("Login successful - Products page displayed");
         } catch (Exception e) {
-            System.err.println("Error during login: " + e.getMessage());
+            TestLog.error("Error during login: " + e.getMessage());
             throw new RuntimeException("Login failed", e);
         }
     }
@@ -354,19 +366,19 @@ public class ProductPurchasePage {
 
                 if (nameInCart.equals(productName) && priceInCart.equals(productPrice)) {
                     found = true;
-                    System.out.println("Product verified in cart - Name: " + nameInCart + ", Price: " + priceInCart);
+                    TestLog.info("Product verified in cart - Name: " + nameInCart + ", Price: " + priceInCart);
                     break;
                 }
             }
 
             if (!found) {
-                System.err.println("Product not found in cart. Expected: " + productName + " " + productPrice);
+                TestLog.error("Product not found in cart. Expected: " + productName + " " + productPrice);
             }
 
             return found;
 
         } catch (Exception e) {
-            System.err.println("Error verifying product in cart: " + e.getMessage());
+            TestLog.error("Error verifying product in cart: " + e.getMessage());
             return false;
         }
     }
@@ -375,7 +387,7 @@ public class ProductPurchasePage {
         String name = driver.findElement(
             By.xpath("(//div[@data-test='inventory-item'])[" + positionOneBased + "]//div[@data-test='inventory-item-name']")
         ).getText();
-        System.out.println("Item name at position " + positionOneBased + ": " + name);
+        TestLog.info("Item name at position " + positionOneBased + ": " + name);
         return name;
     }
 
@@ -383,14 +395,14 @@ public class ProductPurchasePage {
         String price = driver.findElement(
             By.xpath("(//div[@data-test='inventory-item'])[" + positionOneBased + "]//div[@data-test='inventory-item-price']")
         ).getText();
-        System.out.println("Item price at position " + positionOneBased + ": " + price);
+        TestLog.info("Item price at position " + positionOneBased + ": " + price);
         return price;
     }
 
     public void storeProductInfoAtPosition(int positionOneBased) {
         productName = getItemNameAtPosition(positionOneBased);
         productPrice = getItemPriceAtPosition(positionOneBased);
-        System.out.println("Stored product info - Name: " + productName + ", Price: " + productPrice);
+        TestLog.info("Stored product info - Name: " + productName + ", Price: " + productPrice);
     }
 
     public void clickAddToCartAtPosition(int positionOneBased) {
@@ -398,9 +410,9 @@ public class ProductPurchasePage {
             By addButton = By.xpath("(//div[@data-test='inventory-item'])[" + positionOneBased + "]//button[contains(@data-test, 'add-to-cart')]");
             WebElement button = driver.findElement(addButton);
             button.click();
-            System.out.println("Clicked 'Add to cart' at position " + positionOneBased);
+            TestLog.info("Clicked 'Add to cart' at position " + positionOneBased);
         } catch (Exception e) {
-            System.err.println("Error clicking add to cart at position " + positionOneBased + ": " + e.getMessage());
+            TestLog.error("Error clicking add to cart at position " + positionOneBased + ": " + e.getMessage());
             throw new RuntimeException("Failed to click add to cart", e);
         }
     }
@@ -422,13 +434,13 @@ public class ProductPurchasePage {
                 return currentCount == expectedCount;
             });
 
-            System.out.println("✓ Cart badge count reached: " + expectedCount);
+            TestLog.info("✓ Cart badge count reached: " + expectedCount);
         } catch (TimeoutException e) {
             int actualCount = getCartBadgeCount();
-            System.err.println("✗ Cart badge count timeout - Expected: " + expectedCount + ", Got: " + actualCount);
+            TestLog.error("✗ Cart badge count timeout - Expected: " + expectedCount + ", Got: " + actualCount);
             throw new RuntimeException("Cart badge count mismatch - Expected: " + expectedCount + ", Got: " + actualCount, e);
         } catch (Exception e) {
-            System.err.println("✗ Error waiting for cart badge count: " + e.getMessage());
+            TestLog.error("✗ Error waiting for cart badge count: " + e.getMessage());
             throw new RuntimeException("Cart badge count error", e);
         }
     }
@@ -1,6 +1,5 @@
 package runner;
 
-import io.cucumber.junit.Cucumber;
 import io.cucumber.junit.CucumberOptions;
 import org.junit.runner.RunWith;
 
@@ -21,16 +20,25 @@ import org.junit.runner.RunWith;
  * - JSON report for CI/CD integration
  * - Rerun file for failed scenarios
  * - Dynamic tag filtering via system property
+ * - Failures reported to JIRA while the run continues (-Djira.stream=true)
+ * - Step and WebDriver command timings in target/perf/timings.json
+ * - Scenario durations added to test-history/scenario-durations.json
+ * - WebDriver command budgets via @budget-commands=N / @budget-step-commands=N tags
+ * - Failed scenarios retried on fresh browsers with -Dcucumber.retry.count=N (flaky vs consistent)
+ * - Sharding across agents with -Dshard.index=i -Dshard.count=n (merge with org.example.report.ShardMerger)
  */
-@RunWith(Cucumber.class)
+@RunWith(ScheduledCucumber.class)
 @CucumberOptions(
     features = "src/test/java/features/ProductPurchase.feature",
-    glue = {"stepdefinitions.purchase"},
+    glue = {"stepdefinitions.purchase", "stepdefinitions.common"},
     plugin = {
         "pretty",
         "html:target/cucumber-reports/product-purchase-report.html",
         "json:target/cucumber-reports/product-purchase-report.json",
-        "rerun:target/cucumber-reports/rerun.txt"
+        "rerun:target/cucumber-reports/rerun.txt",
+        "support.perf.StepTimingPlugin",
+        "support.schedule.DurationHistoryPlugin",
+        "org.example.jira.JiraStreamingPlugin"
     },
     monochrome = true
     // tags can be passed via -Dcucumber.filter.tags system property
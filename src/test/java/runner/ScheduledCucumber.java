@@ -0,0 +1,374 @@
+package runner;
+
+import io.cucumber.junit.Cucumber;
+import io.cucumber.junit.CucumberOptions;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Filterable;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.manipulation.Sorter;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.InitializationError;
+import support.schedule.ScenarioCatalog;
+import support.schedule.ScenarioCatalog.ScenarioRef;
+import support.schedule.ScenarioOrder;
+import support.schedule.ScenarioOrder.Phase;
+import support.schedule.ScenarioScheduler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Cucumber JUnit runner that can reorder the scenarios and retry the failed ones
+ *
+ * Ordering: with -Dscenario.order=failed-first the scenarios run in the phases of {@link ScenarioOrder}:
+ * recently failed, then affected by the current git diff, then the rest. Cucumber runs the scenarios of a
+ * feature together, so a feature moves to the front as soon as one of its scenarios does, and its scenarios
+ * are ordered by phase. Skipped when cucumber.features selects the scenarios.
+ *
+ * Retry: with -Dcucumber.retry.count=N the scenarios of the runner's rerun file are run again, up to N times,
+ * in the same JVM. The regular hooks give every attempt a fresh browser. A scenario that passes on a retry is
+ * flaky and is reported to JUnit as passed; the others are consistent failures and keep their first error.
+ * The classification is written to target/cucumber-reports/&lt;runner&gt;-retry.json. The main run's JUnit
+ * events are held back until the retries are done, so only consistent failures reach Surefire and JIRA.
+ *
+ * Sharding: with -Dshard.index=i -Dshard.count=n only the i-th (0-based) of n shards of the runner's
+ * scenarios runs. Shards are balanced with the duration history (see ScenarioScheduler) and listed in
+ * target/schedule/shard-&lt;i&gt;-of-&lt;n&gt;.txt; org.example.report.ShardMerger merges the results.
+ */
+public class ScheduledCucumber extends Runner implements Filterable {
+
+    static final Path REPORTS_DIR = Paths.get("target", "cucumber-reports");
+
+    private final Class<?> testClass;
+    private final Cucumber cucumber;
+
+    /**
+     * Options of the retry runs: console output only, so the reports of the main run are kept
+     */
+    @CucumberOptions(plugin = "pretty", monochrome = true)
+    public static class RetryRun {
+    }
+
+    public ScheduledCucumber(Class<?> testClass) throws InitializationError {
+        this.testClass = testClass;
+        Path shard = shardFile();
+        cucumber = shard == null ? new Cucumber(testClass) : cucumberWith(testClass, Map.of("cucumber.features", "@" + shard));
+        if ("failed-first".equals(System.getProperty("scenario.order")) && System.getProperty("cucumber.features") == null) {
+            orderFailedFirst();
+        }
+    }
+
+    @Override
+    public Description getDescription() {
+        return cucumber.getDescription();
+    }
+
+    @Override
+    public void run(RunNotifier notifier) {
+        int retries = Integer.getInteger("cucumber.retry.count", 0);
+        Path rerunFile = rerunFile();
+        if (retries <= 0 || rerunFile == null) {
+            cucumber.run(notifier);
+            return;
+        }
+
+        RecordingListener main = new RecordingListener();
+        RunNotifier mainNotifier = new RunNotifier();
+        mainNotifier.addListener(main);
+        cucumber.run(mainNotifier);
+
+        Set<String> failing = new LinkedHashSet<>(main.failed);
+        Set<String> flaky = new LinkedHashSet<>();
+        int attempts = 0;
+        Path scenarios = rerunFile;
+        while (attempts < retries && !failing.isEmpty() && hasScenarios(scenarios)) {
+            attempts++;
+            System.out.println("\n↻ Retry " + attempts + "/" + retries + " of " + failing.size() + " failed scenario(s) from " + scenarios);
+            Path attemptRerunFile = REPORTS_DIR.resolve(testClass.getSimpleName() + "-retry-" + attempts + "-rerun.txt");
+            RecordingListener retry = new RecordingListener();
+            try {
+                RunNotifier retryNotifier = new RunNotifier();
+                retryNotifier.addListener(retry);
+                boolean last = attempts == retries;
+                Runner runner = retryRunner(scenarios, attemptRerunFile, last);
+                if (last) {
+                    System.setProperty("cucumber.retry.last", "true");
+                }
+                runner.run(retryNotifier);
+            } catch (InitializationError e) {
+                System.err.println("⚠️ Retry run could not start: " + e.getCauses());
+                break;
+            } finally {
+                System.clearProperty("cucumber.retry.last");
+            }
+            for (String test : retry.passed) {
+                if (failing.remove(test)) {
+                    flaky.add(test);
+                }
+            }
+            scenarios = attemptRerunFile;
+        }
+
+        writeClassification(attempts, main.testNames(flaky), main.testNames(failing));
+        if (!flaky.isEmpty()) {
+            System.out.println("✓ Flaky (passed on retry): " + flaky);
+        }
+        if (!failing.isEmpty()) {
+            System.out.println("⚠️ Consistent failures: " + failing);
+        }
+        main.replay(notifier, flaky);
+    }
+
+    @Override
+    public void filter(Filter filter) throws NoTestsRemainException {
+        cucumber.filter(filter);
+    }
+
+    /**
+     * Cucumber runner for the scenarios of a rerun file, with the glue of the main runner
+     * @param streamFailures whether JiraStreamingPlugin reports the failures of this run (the last attempt)
+     */
+    private Runner retryRunner(Path scenarios, Path rerunFile, boolean streamFailures) throws InitializationError {
+        List<String> plugins = new ArrayList<>();
+        plugins.add("rerun:" + rerunFile);
+        if (streamFailures) {
+            plugins.add("org.example.jira.JiraStreamingPlugin");
+        }
+        String userPlugins = System.getProperty("cucumber.plugin");
+        if (userPlugins != null && !userPlugins.isBlank()) {
+            plugins.add(userPlugins);
+        }
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("cucumber.features", "@" + scenarios);
+        properties.put("cucumber.glue", String.join(",", testClass.getAnnotation(CucumberOptions.class).glue()));
+        properties.put("cucumber.plugin", String.join(",", plugins));
+        return cucumberWith(RetryRun.class, properties);
+    }
+
+    /**
+     * Cucumber reads its options from the system properties when the runner is created
+     */
+    private static Cucumber cucumberWith(Class<?> optionsClass, Map<String, String> properties) throws InitializationError {
+        Map<String, String> previous = new HashMap<>();
+        properties.forEach((key, value) -> previous.put(key, System.setProperty(key, value)));
+        try {
+            return new Cucumber(optionsClass);
+        } finally {
+            previous.forEach((key, value) -> {
+                if (value == null) {
+                    System.clearProperty(key);
+                } else {
+                    System.setProperty(key, value);
+                }
+            });
+        }
+    }
+
+    /**
+     * Write the scenarios of this shard in rerun-file format
+     * @return the file, or null when not sharding
+     */
+    private Path shardFile() throws InitializationError {
+        int count = Integer.getInteger("shard.count", 1);
+        if (count <= 1) {
+            return null;
+        }
+        if (System.getProperty("cucumber.features") != null) {
+            System.err.println("⚠️ Sharding ignored: cucumber.features already selects the scenarios");
+            return null;
+        }
+        int index = Integer.getInteger("shard.index", 0);
+        try {
+            List<ScenarioRef> scenarios = new ArrayList<>();
+            for (String features : testClass.getAnnotation(CucumberOptions.class).features()) {
+                scenarios.addAll(ScenarioCatalog.load(Paths.get(features), System.getProperty("cucumber.filter.tags")));
+            }
+            StringBuilder lines = new StringBuilder();
+            for (ScenarioRef scenario : ScenarioScheduler.shard(scenarios, index, count)) {
+                lines.append(scenario.location()).append(System.lineSeparator());
+            }
+            Path file = ScenarioScheduler.SCHEDULE_DIR.resolve("shard-" + index + "-of-" + count + ".txt");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, lines, StandardCharsets.UTF_8);
+            return file;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InitializationError(e);
+        }
+    }
+
+    /**
+     * @return the rerun file written by the runner's "rerun:" plugin, or null if it has none
+     */
+    private Path rerunFile() {
+        CucumberOptions options = testClass.getAnnotation(CucumberOptions.class);
+        if (options == null) {
+            return null;
+        }
+        for (String plugin : options.plugin()) {
+            if (plugin.startsWith("rerun:")) {
+                return Paths.get(plugin.substring("rerun:".length()));
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasScenarios(Path rerunFile) {
+        try {
+            return Files.exists(rerunFile) && !Files.readString(rerunFile, StandardCharsets.UTF_8).isBlank();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void writeClassification(int attempts, List<String> flaky, List<String> consistent) {
+        JSONObject classification = new JSONObject()
+            .put("runner", testClass.getName())
+            .put("attempts", attempts)
+            .put("flaky", new JSONArray(flaky))
+            .put("consistent", new JSONArray(consistent));
+        Path file = REPORTS_DIR.resolve(testClass.getSimpleName() + "-retry.json");
+        try {
+            Files.createDirectories(REPORTS_DIR);
+            Files.writeString(file, classification.toString(2), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not write " + file + ": " + e.getMessage());
+        }
+    }
+
+    private void orderFailedFirst() {
+        List<Phase> phases;
+        try {
+            phases = ScenarioOrder.phases(System.getProperty("cucumber.filter.tags"));
+            ScenarioOrder.write(phases);
+        } catch (IOException e) {
+            System.err.println("⚠️ Scenario ordering skipped: " + e.getMessage());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        Map<String, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < phases.size(); i++) {
+            for (ScenarioRef scenario : phases.get(i).scenarios()) {
+                ranks.merge(scenario.name(), i, Math::min);
+            }
+        }
+        // Stable sort: features, scenarios of the same phase and steps keep their original order
+        cucumber.sort(new Sorter(Comparator.comparingInt(description -> rank(description, ranks))));
+    }
+
+    /**
+     * Scenarios are matched by name; a feature ranks as its earliest scenario
+     */
+    private static int rank(Description description, Map<String, Integer> ranks) {
+        Integer rank = ranks.get(scenarioName(description));
+        if (rank != null) {
+            return rank;
+        }
+        return description.getChildren().stream()
+            .mapToInt(child -> rank(child, ranks))
+            .min()
+            .orElse(Integer.MAX_VALUE);
+    }
+
+    private static String scenarioName(Description description) {
+        return description.getMethodName() != null ? description.getMethodName() : description.getDisplayName();
+    }
+
+    /**
+     * Records the JUnit events of a run to replay them later, and which scenarios passed or failed.
+     * Scenarios are identified by name, since the descriptions of two Cucumber runs are never equal.
+     */
+    private static final class RecordingListener extends RunListener {
+
+        private final List<Consumer<RunNotifier>> events = new ArrayList<>();
+        private final Set<String> failed = new LinkedHashSet<>();
+        private final Set<String> passed = new LinkedHashSet<>();
+        private final Set<Description> failedDescriptions = new LinkedHashSet<>();
+        private Set<String> passedOnRetry = Set.of();
+
+        @Override
+        public void testSuiteStarted(Description description) {
+            events.add(notifier -> notifier.fireTestSuiteStarted(description));
+        }
+
+        @Override
+        public void testSuiteFinished(Description description) {
+            events.add(notifier -> notifier.fireTestSuiteFinished(description));
+        }
+
+        @Override
+        public void testStarted(Description description) {
+            events.add(notifier -> notifier.fireTestStarted(description));
+        }
+
+        @Override
+        public void testFailure(Failure failure) {
+            String scenario = scenarioName(failure.getDescription());
+            failedDescriptions.add(failure.getDescription());
+            failed.add(scenario);
+            events.add(notifier -> {
+                if (!passedOnRetry.contains(scenario)) {
+                    notifier.fireTestFailure(failure);
+                }
+            });
+        }
+
+        @Override
+        public void testAssumptionFailure(Failure failure) {
+            events.add(notifier -> notifier.fireTestAssumptionFailed(failure));
+        }
+
+        @Override
+        public void testIgnored(Description description) {
+            events.add(notifier -> notifier.fireTestIgnored(description));
+        }
+
+        @Override
+        public void testFinished(Description description) {
+            if (!failedDescriptions.contains(description)) {
+                passed.add(scenarioName(description));
+            }
+            events.add(notifier -> notifier.fireTestFinished(description));
+        }
+
+        /**
+         * @return names of the given failed scenarios as in the Surefire XML: feature and scenario name
+         */
+        List<String> testNames(Set<String> scenarios) {
+            List<String> names = new ArrayList<>();
+            for (Description description : failedDescriptions) {
+                if (scenarios.contains(scenarioName(description))) {
+                    names.add(description.getClassName() + "." + scenarioName(description));
+                }
+            }
+            return names;
+        }
+
+        /**
+         * Replay the recorded events, without the failures of the scenarios that passed on a retry
+         */
+        void replay(RunNotifier notifier, Set<String> passedOnRetry) {
+            this.passedOnRetry = passedOnRetry;
+            events.forEach(event -> event.accept(notifier));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package runner;
+
+import io.cucumber.junit.CucumberOptions;
+import org.junit.runner.RunWith;
+
+/**
+ * Cucumber Test Runner for one worker of a duration-aware schedule
+ *
+ * Runs every feature with the glue of all of them, so any subset of scenarios can be given to it.
+ *
+ * How to run:
+ * 1. Plan the workers from the duration history (writes target/schedule/worker-<i>.txt):
+ *    mvn test-compile exec:java -Dexec.mainClass=support.schedule.ScenarioScheduler -Dexec.classpathScope=test -Dschedule.workers=4
+ * 2. On each worker: mvn test -Dtest=ScheduledTestRunner -Dcucumber.features=@target/schedule/worker-0.txt
+ * 3. Without cucumber.features, all scenarios run
+ * 4. Recently failed scenarios first, then the ones affected by the git diff:
+ *    mvn test -Dtest=ScheduledTestRunner -Dscenario.order=failed-first
+ *
+ * Features:
+ * - Pretty console output
+ * - HTML and JSON reports generated in target/cucumber-reports
+ * - Rerun file for failed scenarios
+ * - Step and WebDriver command timings in target/perf/timings.json
+ * - Scenario durations added to test-history/scenario-durations.json
+ * - Failed scenarios retried on fresh browsers with -Dcucumber.retry.count=N (flaky vs consistent)
+ * - Sharding across agents with -Dshard.index=i -Dshard.count=n (merge with org.example.report.ShardMerger)
+ */
+@RunWith(ScheduledCucumber.class)
+@CucumberOptions(
+    features = "src/test/java/features",
+    glue = {"stepdefinitions.login", "stepdefinitions.purchase", "stepdefinitions.common"},
+    plugin = {
+        "pretty",
+        "html:target/cucumber-reports/scheduled-report.html",
+        "json:target/cucumber-reports/scheduled-report.json",
+        "rerun:target/cucumber-reports/scheduled-rerun.txt",
+        "support.perf.StepTimingPlugin",
+        "support.schedule.DurationHistoryPlugin",
+        "org.example.jira.JiraStreamingPlugin"
+    },
+    monochrome = true
+)
+public class ScheduledTestRunner {
+    // Cucumber uses annotations to run tests
+}
@@ -0,0 +1,63 @@
+package stepdefinitions.common;
+
+import io.cucumber.java.ParameterType;
+import io.cucumber.java.en.Then;
+import org.junit.Assert;
+import support.log.TestLog;
+import support.perf.PageMetricBudget;
+import support.perf.PageMetricBudget.Evaluation;
+import support.perf.PageMetricBudget.Metric;
+import support.perf.PagePerformance;
+
+/**
+ * Performance budget steps, evaluated against the page metrics collected in the current scenario
+ *
+ * Examples:
+ * - Then the inventory page should load within 800 ms
+ * - Then LCP on the login page should be under 1.2 s
+ * - Then CLS on the cart page should be under 0.1
+ * - Then the p90 load time of the inventory page should be under 1 s
+ */
+public class PerformanceStepDefinitions {
+
+    @ParameterType("(\\d+(?:\\.\\d+)?) ?(ms|s)")
+    public Double duration(String value, String unit) {
+        double amount = Double.parseDouble(value);
+        return "s".equals(unit) ? amount * 1000 : amount;
+    }
+
+    @ParameterType("load time|TTFB|FCP|LCP|INP")
+    public Metric timingMetric(String label) {
+        return Metric.fromLabel(label);
+    }
+
+    @Then("the {word} page should load within {duration}")
+    public void thePageShouldLoadWithin(String page, Double limitMs) {
+        check(page, Metric.LOAD_TIME, PageMetricBudget.defaultPercentile(), limitMs);
+    }
+
+    @Then("{timingMetric} on the {word} page should be under {duration}")
+    public void metricOnThePageShouldBeUnder(Metric metric, String page, Double limitMs) {
+        check(page, metric, PageMetricBudget.defaultPercentile(), limitMs);
+    }
+
+    @Then("the p{int} {timingMetric} of the {word} page should be under {duration}")
+    public void percentileOfThePageShouldBeUnder(int percentile, Metric metric, String page, Double limitMs) {
+        check(page, metric, percentile, limitMs);
+    }
+
+    @Then("CLS on the {word} page should be under {double}")
+    public void clsOnThePageShouldBeUnder(String page, Double limit) {
+        check(page, Metric.CLS, PageMetricBudget.defaultPercentile(), limit);
+    }
+
+    private void check(String page, Metric metric, double percentile, double limit) {
+        if (!PagePerformance.enabled()) {
+            TestLog.warn("⚠️ Page metrics disabled (-Dperf.pages=false): budget for the " + page + " page not checked");
+            return;
+        }
+        Evaluation evaluation = PageMetricBudget.evaluate(PagePerformance.scenarioMetrics(), page, metric, percentile, limit);
+        Assert.assertTrue(evaluation.message(), evaluation.passed());
+        TestLog.info("✓ " + evaluation.message());
+    }
+}
@@ -0,0 +1,148 @@
+package stepdefinitions.common;
+
+import io.cucumber.java.After;
+import io.cucumber.java.AfterStep;
+import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
+import io.cucumber.java.BeforeStep;
+import io.cucumber.java.Scenario;
+import org.json.JSONArray;
+import support.ResourceGuard;
+import support.data.TestDataPool;
+import support.log.DriverLog;
+import support.log.TestLog;
+import support.perf.CommandBudget;
+import support.perf.JfrProfiler;
+import support.perf.NetworkCapture;
+import support.perf.PagePerformance;
+import support.perf.StepTracer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalInt;
+
+/**
+ * Hooks shared by every feature (glue package "stepdefinitions.common")
+ * - Enforces the WebDriver command budgets declared with @budget-commands=N and @budget-step-commands=N
+ * - Publishes the page performance metrics collected during the scenario
+ * - Starts the test data generation (and JFR profiling, with -Dperf.profile=true) before the first scenario
+ * - Gives each scenario its own test log (target/test-logs), attached to the report when the scenario fails
+ * - Saves the ChromeDriver log of a failed scenario (target/driver-logs)
+ * - Saves the performance traces of slow steps (target/perf/traces) before the browser is closed
+ * - Keeps the network capture (-Dperf.har=true) of a failed or over-budget scenario (target/perf/har)
+ * - Closes the browser sessions a scenario left open (see support.ResourceGuard)
+ */
+public class ScenarioHooks {
+
+    @BeforeAll
+    public static void warmUpTestData() {
+        JfrProfiler.start();
+        TestDataPool.warmUp();
+    }
+
+    /**
+     * Runs first, before the feature's own @Before hooks, so the driver start-up is in the log too
+     */
+    @Before(order = 0)
+    public void startScenarioLog(Scenario scenario) {
+        TestLog.startScenario(scenario.getName());
+        NetworkCapture.startScenario();
+    }
+
+    /**
+     * Runs after the feature's own @After hooks, so the driver shutdown is in the log too
+     */
+    @After(order = 0)
+    public void endScenarioLog(Scenario scenario) {
+        ResourceGuard.endScenario();
+        TestLog.info("Scenario " + scenario.getStatus() + ": " + scenario.getName());
+        if (scenario.isFailed()) {
+            DriverLog.saveCurrent(scenario.getName());
+        }
+        NetworkCapture.endScenario(scenario.isFailed() || CommandBudget.exceeded());
+        String correlationId = TestLog.correlationId();
+        TestLog.endScenario();
+        if (scenario.isFailed() && correlationId != null) {
+            TestLog.flush();
+            try {
+                byte[] log = Files.readAllBytes(TestLog.scenarioFile(scenario.getName(), correlationId));
+                scenario.attach(log, "text/plain", "test-log-" + correlationId + ".log");
+            } catch (IOException e) {
+                TestLog.warn("⚠️ Could not attach the test log: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Runs after the scenario log is started but before the feature's own @Before hooks, so driver start-up is counted too
+     */
+    @Before(order = 1)
+    public void startCommandCount() {
+        CommandBudget.startScenario();
+        PagePerformance.startScenario();
+    }
+
+    @BeforeStep
+    public void startStepCommandCount() {
+        CommandBudget.startStep();
+    }
+
+    @AfterStep
+    public void checkStepCommandBudget(Scenario scenario) {
+        OptionalInt budget = CommandBudget.stepBudget(scenario.getSourceTagNames());
+        int used = CommandBudget.stepCount();
+        if (budget.isPresent() && used > budget.getAsInt()) {
+            exceeded(scenario, "Step used " + used + " WebDriver commands, budget is " + budget.getAsInt());
+        }
+    }
+
+    /**
+     * Runs before the feature's own @After hooks, so driver.quit() is not counted
+     */
+    @After(order = 20000)
+    public void checkScenarioCommandBudget(Scenario scenario) {
+        int used = CommandBudget.scenarioCount();
+        OptionalInt budget = CommandBudget.scenarioBudget(scenario.getSourceTagNames());
+        scenario.log("WebDriver commands: " + used + budget.stream().mapToObj(b -> " (budget " + b + ")").findFirst().orElse(""));
+        if (budget.isPresent() && used > budget.getAsInt()) {
+            exceeded(scenario, "Scenario used " + used + " WebDriver commands, budget is " + budget.getAsInt());
+        }
+    }
+
+    /**
+     * Stop the performance trace of a slow step before the browser is closed, and list the traces in the report
+     */
+    @After(order = 20000)
+    public void saveSlowStepTraces(Scenario scenario) {
+        for (Path trace : StepTracer.endScenario()) {
+            scenario.log("Performance trace: " + trace.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Attach the page metrics to the Cucumber report and add them to target/perf/page-metrics.jsonl
+     */
+    @After(order = 20000)
+    public void publishPageMetrics(Scenario scenario) {
+        if (PagePerformance.scenarioMetrics().isEmpty()) {
+            return;
+        }
+        JSONArray metrics = new JSONArray(PagePerformance.scenarioMetrics());
+        scenario.attach(metrics.toString(2).getBytes(StandardCharsets.UTF_8), "application/json", "page-metrics.json");
+        try {
+            PagePerformance.appendToTimeSeries(scenario.getName());
+        } catch (IOException e) {
+            TestLog.warn("⚠️ Could not write page metrics: " + e.getMessage());
+        }
+    }
+
+    private void exceeded(Scenario scenario, String message) {
+        CommandBudget.markExceeded();
+        if (CommandBudget.failOnExceeded()) {
+            throw new AssertionError("Command budget exceeded: " + message);
+        }
+        TestLog.warn("⚠️ Command budget exceeded in '" + scenario.getName() + "': " + message);
+    }
+}
@@ -2,14 +2,17 @@ package stepdefinitions.login;
 
 import io.cucumber.java.Before;
 import io.cucumber.java.After;
+import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.When;
 import io.cucumber.java.en.Then;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import pages.LoginPage;
-import com.github.javafaker.Faker;
+import support.DriverFactory;
+import support.data.TestDataPool;
+import support.log.TestLog;
+import support.perf.BrowserMemory;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,16 +26,24 @@ public class LoginStepDefinitions {
     private LoginPage loginPage;
     private String generatedPassword;
     private String generatedUsername;
-    private Faker faker;
 
     /**
      * Setup - Executed BEFORE each scenario
      * Creates fresh WebDriver instance for each scenario
+     * Scenarios tagged @browserless run on HtmlUnit instead of Chrome (disable with -Dbrowserless=false)
+     * Limited to @login so runners combining several glue packages do not start a second browser
      */
-    @Before
-    public void setUp() {
-        System.out.println("\n========== SCENARIO STARTED ==========");
-        System.out.println("Cucumber @Before: Setting up fresh WebDriver...");
+    @Before("@login")
+    public void setUp(Scenario scenario) {
+        if (scenario.getSourceTagNames().contains("@browserless") && Boolean.parseBoolean(System.getProperty("browserless", "true"))) {
+            TestLog.info("Cucumber @Before: Setting up browserless HtmlUnit driver...");
+            driver = DriverFactory.createBrowserlessDriver();
+            loginPage = new LoginPage(driver);
+            TestLog.info("✓ HtmlUnit driver initialized (no Chrome process)");
+            return;
+        }
+
+        TestLog.info("Cucumber @Before: Setting up fresh WebDriver...");
 
         // Configure Chrome options
         ChromeOptions options = new ChromeOptions();
@@ -45,25 +56,24 @@ public class LoginStepDefinitions {
         options.setExperimentalOption("useAutomationExtension", false);
 
         // Initialize WebDriver (fresh instance for each scenario)
-        driver = new ChromeDriver(options);
+        driver = DriverFactory.createChromeDriver(options);
         loginPage = new LoginPage(driver);
-        faker = new Faker();
 
-        System.out.println("✓ WebDriver initialized (fresh instance)");
-        System.out.println("✓ LoginPage object created");
+        TestLog.info("✓ WebDriver initialized (fresh instance)");
+        TestLog.info("✓ LoginPage object created");
     }
 
     /**
      * Teardown - Executed AFTER each scenario
      * Closes WebDriver properly
      */
-    @After
+    @After("@login")
     public void tearDown() {
         if (driver != null) {
+            BrowserMemory.sample(driver, 1);
             driver.quit();
-            System.out.println("✓ WebDriver closed");
+            TestLog.info("✓ WebDriver closed");
         }
-        System.out.println("========== SCENARIO COMPLETED ==========\n");
     }
 
     // GIVEN Steps
@@ -73,9 +83,9 @@ public class LoginStepDefinitions {
      */
     @Given("the user is on the login page")
     public void userIsOnLoginPage() {
-        System.out.println("\n[GIVEN] User navigating to login page...");
+        TestLog.info("[GIVEN] User navigating to login page...");
         loginPage.navigateToLoginPage();
-        System.out.println("✓ User is now on login page");
+        TestLog.info("✓ User is now on login page");
     }
 
     // WHEN Steps
@@ -85,7 +95,7 @@ public class LoginStepDefinitions {
      */
     @When("the user enters username {string}")
     public void userEntersUsername(String username) {
-        System.out.println("\n[WHEN] User entering username: " + username);
+        TestLog.info("[WHEN] User entering username: " + username);
         loginPage.enterUsername(username);
     }
 
@@ -94,7 +104,7 @@ public class LoginStepDefinitions {
      */
     @When("the user enters password {string}")
     public void userEntersPassword(String password) {
-        System.out.println("\n[WHEN] User entering password: (hidden for security)");
+        TestLog.info("[WHEN] User entering password: (hidden for security)");
         loginPage.enterPassword(password);
     }
 
@@ -103,12 +113,12 @@ public class LoginStepDefinitions {
      */
     @When("the user enters an invalid password generated by Faker")
     public void userEntersInvalidPasswordFromFaker() {
-        System.out.println("\n[WHEN] Generating invalid password with Faker...");
+        TestLog.info("[WHEN] Generating invalid password with Faker...");
 
-        generatedPassword = faker.internet().password();
+        generatedPassword = TestDataPool.invalidCredentials().password();
 
-        System.out.println("✓ Invalid password generated (hidden for security)");
-        System.out.println("ℹ️  Note: Password is different from 'secret_sauce'");
+        TestLog.info("✓ Invalid password generated (hidden for security)");
+        TestLog.info("ℹ️  Note: Password is different from 'secret_sauce'");
 
         loginPage.enterPassword(generatedPassword);
     }
@@ -118,12 +128,12 @@ public class LoginStepDefinitions {
      */
     @When("the user enters an invalid username generated by Faker")
     public void userEntersInvalidUsernameFromFaker() {
-        System.out.println("\n[WHEN] Generating invalid username with Faker...");
+        TestLog.info("[WHEN] Generating invalid username with Faker...");
 
-        generatedUsername = faker.name().username();
+        generatedUsername = TestDataPool.invalidCredentials().username();
 
-        System.out.println("✓ Invalid username generated: " + generatedUsername);
-        System.out.println("ℹ️  Note: This username does not exist in the system");
+        TestLog.info("✓ Invalid username generated: " + generatedUsername);
+        TestLog.info("ℹ️  Note: This username does not exist in the system");
 
         loginPage.enterUsername(generatedUsername);
     }
@@ -133,15 +143,10 @@ public class LoginStepDefinitions {
      */
     @When("the user clicks the login button")
     public void userClicksLoginButton() {
-        System.out.println("\n[WHEN] User clicking login button...");
+        TestLog.info("[WHEN] User clicking login button...");
         loginPage.clickLoginButton();
-
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        System.out.println("✓ Login button clicked");
+        loginPage.waitForLoginOutcome();
+        TestLog.info("✓ Login button clicked");
     }
 
     // THEN Steps
@@ -151,14 +156,14 @@ public class LoginStepDefinitions {
      */
     @Then("the user should be redirected to the inventory page")
     public void userIsRedirectedToInventoryPage() {
-        System.out.println("\n[THEN] Validating redirection to inventory page...");
+        TestLog.info("[THEN] Validating redirection to inventory page...");
 
         String currentUrl = driver.getCurrentUrl();
         assertTrue(
             currentUrl.contains("inventory"),
             "ERROR: Should be redirected to inventory page. Current URL: " + currentUrl
         );
-        System.out.println("✓ ASSERTION PASSED: User is on inventory page");
+        TestLog.info("✓ ASSERTION PASSED: User is on inventory page");
     }
 
     /**
@@ -166,13 +171,13 @@ public class LoginStepDefinitions {
      */
     @Then("an error message should be displayed")
     public void errorMessageShouldBeDisplayed() {
-        System.out.println("\n[THEN] Validating error message is displayed...");
+        TestLog.info("[THEN] Validating error message is displayed...");
 
         assertTrue(
             loginPage.isErrorMessageDisplayed(),
             "ERROR: Error message should be displayed!"
         );
-        System.out.println("✓ ASSERTION PASSED: Error message is displayed");
+        TestLog.info("✓ ASSERTION PASSED: Error message is displayed");
     }
 
     /**
@@ -180,14 +185,14 @@ public class LoginStepDefinitions {
      */
     @Then("the error message should contain {string}")
     public void errorMessageShouldContain(String expectedText) {
-        System.out.println("\n[THEN] Validating error message contains: " + expectedText);
+        TestLog.info("[THEN] Validating error message contains: " + expectedText);
 
         String actualMessage = loginPage.getErrorMessage();
         assertTrue(
             actualMessage.contains(expectedText),
             "ERROR: Message should contain '" + expectedText + "'. Actual: " + actualMessage
         );
-        System.out.println("✓ ASSERTION PASSED: Error message contains '" + expectedText + "'");
+        TestLog.info("✓ ASSERTION PASSED: Error message contains '" + expectedText + "'");
     }
 
     /**
@@ -195,13 +200,13 @@ public class LoginStepDefinitions {
      */
     @Then("error icons should be visible")
     public void errorIconsShouldBeVisible() {
-        System.out.println("\n[THEN] Validating error icons are visible...");
+        TestLog.info("[THEN] Validating error icons are visible...");
 
         assertTrue(
             loginPage.areErrorIconsDisplayed(),
             "ERROR: Error icons should be visible!"
         );
-        System.out.println("✓ ASSERTION PASSED: Error icons are visible");
+        TestLog.info("✓ ASSERTION PASSED: Error icons are visible");
     }
 
     /**
@@ -209,7 +214,7 @@ public class LoginStepDefinitions {
      */
     @Then("both username and password fields should have error styling")
     public void bothFieldsShouldHaveErrorStyling() {
-        System.out.println("\n[THEN] Validating error styling on both fields...");
+        TestLog.info("[THEN] Validating error styling on both fields...");
 
         boolean usernameHasError = loginPage.doesUsernameFieldHaveErrorClass();
         boolean passwordHasError = loginPage.doesPasswordFieldHaveErrorClass();
@@ -223,7 +228,7 @@ public class LoginStepDefinitions {
             passwordHasError,
             "ERROR: Password field should have error styling"
         );
-        System.out.println("✓ ASSERTION PASSED: Both fields have error styling");
+        TestLog.info("✓ ASSERTION PASSED: Both fields have error styling");
     }
 
     /**
@@ -231,13 +236,13 @@ public class LoginStepDefinitions {
      */
     @Then("the user should remain on the login page")
     public void userShouldRemainOnLoginPage() {
-        System.out.println("\n[THEN] Validating user is still on login page...");
+        TestLog.info("[THEN] Validating user is still on login page...");
 
         String currentUrl = driver.getCurrentUrl();
         assertTrue(
-            currentUrl.contains("saucedemo.com") && !currentUrl.contains("inventory"),
+            currentUrl.startsWith(LoginPage.baseUrl()) && !currentUrl.contains("inventory"),
             "ERROR: User should remain on login page. Current URL: " + currentUrl
         );
-        System.out.println("✓ ASSERTION PASSED: User remains on login page");
+        TestLog.info("✓ ASSERTION PASSED: User remains on login page");
     }
 }
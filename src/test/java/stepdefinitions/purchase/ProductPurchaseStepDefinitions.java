@@ -12,6 +12,7 @@ import pages.CheckoutOverviewPage;
 import pages.CheckoutPage;
 import pages.ProductPurchasePage;
 import support.BaseTest;
+import support.log.TestLog;
 
 /**
  * Step Definitions and Hooks for Product Purchase feature
@@ -38,7 +39,7 @@ public class ProductPurchaseStepDefinitions extends BaseTest {
     @Before("@purchase")
     public void beforePurchaseScenario() {
         BaseTest.setupDriver();
-        System.out.println("✓ Cucumber @Before: WebDriver initialized for @purchase scenario");
+        TestLog.info("✓ Cucumber @Before: WebDriver initialized for @purchase scenario");
     }
 
     /**
@@ -47,7 +48,7 @@ public class ProductPurchaseStepDefinitions extends BaseTest {
     @After("@purchase")
     public void afterPurchaseScenario() {
         BaseTest.teardownDriver();
-        System.out.println("✓ Cucumber @After: WebDriver closed after @purchase scenario");
+        TestLog.info("✓ Cucumber @After: WebDriver closed after @purchase scenario");
     }
 
     // ═══════════════════════════════════════════════════════════════════════════════
@@ -222,4 +223,14 @@ public class ProductPurchaseStepDefinitions extends BaseTest {
     public void theUserLogsInAgain() {
         getProductPage().loginStandardUser();
     }
+
+    /**
+     * Repeat the login flow, giving the performance steps several samples per page
+     */
+    @When("the user logs in {int} more times")
+    public void theUserLogsInMoreTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            getProductPage().loginStandardUser();
+        }
+    }
 }
@@ -1,8 +1,14 @@
 package support;
 
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import support.data.TestDataPool;
+import support.log.TestLog;
+import support.perf.BrowserMemory;
+import support.perf.JfrProfiler;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -21,14 +27,20 @@ public class BaseTest {
 
     protected static WebDriver driver;
     private static final Path SCREENSHOTS_DIR = Paths.get("target", "screenshots");
+    // Keep the browser between tests until its memory crosses the limits of BrowserMemory
+    private static final boolean REUSE = Boolean.getBoolean("driver.reuse");
+    private static int sessionScenarios;
 
     static {
         // Create screenshots directory on class load
         try {
             Files.createDirectories(SCREENSHOTS_DIR);
         } catch (IOException e) {
-            System.err.println("⚠️ Warning: Could not create screenshots directory: " + e.getMessage());
+            TestLog.warn("⚠️ Warning: Could not create screenshots directory: " + e.getMessage());
         }
+        JfrProfiler.start();
+        // Faker starts loading in the background while the browser starts
+        TestDataPool.warmUp();
     }
 
     /**
@@ -36,7 +48,11 @@ public class BaseTest {
      * Uses DriverFactory for environment-specific configuration
      */
     public static void setupDriver() {
+        if (REUSE && driver != null) {
+            return;
+        }
         driver = DriverFactory.createDriver();
+        sessionScenarios = 0;
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
     }
@@ -48,7 +64,7 @@ public class BaseTest {
      */
     public static String takeScreenshot(String testName) {
         if (driver == null) {
-            System.err.println("⚠️ Cannot take screenshot: WebDriver is null");
+            TestLog.warn("⚠️ Cannot take screenshot: WebDriver is null");
             return null;
         }
 
@@ -70,21 +86,49 @@ public class BaseTest {
             // Copy to target location
             Files.copy(screenshot.toPath(), screenshotPath, StandardCopyOption.REPLACE_EXISTING);
 
-            System.out.println("📸 Screenshot captured: " + screenshotPath.toAbsolutePath());
+            TestLog.info("📸 Screenshot captured: " + screenshotPath.toAbsolutePath());
             return screenshotPath.toAbsolutePath().toString();
 
         } catch (Exception e) {
-            System.err.println("⚠️ Failed to capture screenshot: " + e.getMessage());
+            TestLog.warn("⚠️ Failed to capture screenshot: " + e.getMessage());
             return null;
         }
     }
 
     /**
-     * Teardown - quit driver
+     * Teardown - sample the browser memory, then quit driver (or, with -Ddriver.reuse=true, clean it for the
+     * next test unless it is over its memory limits), and any other session this thread left open
      */
     public static void teardownDriver() {
         if (driver != null) {
-            driver.quit();
+            sessionScenarios++;
+            BrowserMemory.Sample sample = BrowserMemory.sample(driver, sessionScenarios);
+            if (REUSE && (sample == null || !sample.overLimit()) && resetForReuse()) {
+                ResourceGuard.keepOpen(driver, true);
+            } else {
+                if (REUSE) {
+                    TestLog.info("Recycling the browser session after " + sessionScenarios + " test(s)");
+                }
+                driver.quit();
+                driver = null;
+            }
+        }
+        ResourceGuard.endScenario();
+    }
+
+    /**
+     * Clear what the site keeps between pages (the cart lives in localStorage), as a fresh browser would start
+     * @return false if the session is no longer usable
+     */
+    private static boolean resetForReuse() {
+        try {
+            ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            TestLog.warn("⚠️ Browser session not reusable: " + e.getMessage());
+            return false;
         }
     }
 }
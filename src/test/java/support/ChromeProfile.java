@@ -0,0 +1,89 @@
+package support;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Chrome launch-flag profiles
+ *
+ * - default: only the flags DriverFactory always sets, on CI as well
+ * - throughput: Chrome features the tests never use are turned off, so they cost no start-up time,
+ *   CPU or network during the run
+ *
+ * Select with -Dchrome.profile=default|throughput; leave flags out with -Dchrome.profile.exclude=name,name.
+ * Every flag is measured by support.perf.ChromeFlagBenchmark; the throughput profile stays opt-in until
+ * its results are committed, and flags they do not justify are dropped then.
+ */
+public final class ChromeProfile {
+
+    /**
+     * One named change to the Chrome options
+     */
+    public record Flag(String name, Consumer<ChromeOptions> apply) {
+    }
+
+    public static final List<Flag> THROUGHPUT = List.of(
+        arguments("background-networking", "--disable-background-networking"),
+        arguments("extensions", "--disable-extensions"),
+        arguments("component-update", "--disable-component-update"),
+        arguments("sync", "--disable-sync"),
+        arguments("default-apps", "--disable-default-apps"),
+        arguments("translate", "--disable-features=Translate"),
+        arguments("renderer-backgrounding", "--disable-renderer-backgrounding",
+            "--disable-background-timer-throttling", "--disable-backgrounding-occluded-windows"),
+        // SauceDemo keeps its desktop layout down to 1280 px; Chrome uses the last --window-size given
+        arguments("small-window", "--window-size=1280,800"),
+        new Flag("eager", options -> options.setPageLoadStrategy(PageLoadStrategy.EAGER))
+    );
+
+    private ChromeProfile() {
+    }
+
+    /**
+     * @return the flags of the selected profile, without the excluded ones
+     */
+    public static List<Flag> active() {
+        String profile = System.getProperty("chrome.profile", "default");
+        if ("default".equals(profile)) {
+            return List.of();
+        }
+        if (!"throughput".equals(profile)) {
+            throw new IllegalArgumentException("Unknown chrome.profile '" + profile + "', expected default or throughput");
+        }
+        Set<String> excluded = Arrays.stream(System.getProperty("chrome.profile.exclude", "").split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toSet());
+        Set<String> names = THROUGHPUT.stream().map(Flag::name).collect(Collectors.toSet());
+        for (String name : excluded) {
+            if (!names.contains(name)) {
+                throw new IllegalArgumentException("Unknown flag in chrome.profile.exclude: '" + name + "', expected one of " + names);
+            }
+        }
+        List<Flag> flags = new ArrayList<>();
+        for (Flag flag : THROUGHPUT) {
+            if (!excluded.contains(flag.name())) {
+                flags.add(flag);
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Add the flags of the selected profile; call after the environment-specific arguments
+     */
+    public static void apply(ChromeOptions options) {
+        active().forEach(flag -> flag.apply().accept(options));
+    }
+
+    private static Flag arguments(String name, String... arguments) {
+        return new Flag(name, options -> options.addArguments(arguments));
+    }
+}
@@ -1,8 +1,20 @@
 package support;
 
+import org.htmlunit.BrowserVersion;
+import org.htmlunit.WebClient;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import support.log.DriverLog;
+import support.log.TestLog;
+import support.perf.CommandCountingListener;
+import support.perf.CommandTimingListener;
+import support.perf.NetworkCapture;
+import support.perf.StepTracer;
 
 /**
  * Factory class for creating and configuring ChromeDriver instances
@@ -14,27 +26,96 @@ public class DriverFactory {
         ChromeOptions options = new ChromeOptions();
 
         // ESSENTIAL for GitHub Actions (environment without graphical interface)
-        String ciEnvironment = System.getenv("CI");
-        if (ciEnvironment != null && "true".equals(ciEnvironment)) {
-            System.out.println("CI environment detected - Running Chrome in headless mode");
-            options.addArguments("--headless=new");
-            options.addArguments("--no-sandbox");
-            options.addArguments("--disable-dev-shm-usage");
-            options.addArguments("--disable-gpu");
-            options.addArguments("--window-size=1920,1080");
+        if (isCi()) {
+            TestLog.info("CI environment detected - Running Chrome in headless mode");
+            addHeadlessArguments(options);
         } else {
-            System.out.println("Local environment detected - Running Chrome in normal mode");
+            TestLog.info("Local environment detected - Running Chrome in normal mode");
             options.addArguments("--start-maximized");
         }
 
         // Optional flags (work in both environments)
         options.addArguments("--incognito");
+        ChromeProfile.apply(options);
 
-        // Detailed logs for debugging (optional)
-        System.setProperty("webdriver.chrome.verboseLogging", "true");
-        System.setProperty("webdriver.chrome.logfile", "target/chromedriver.log");
+        return createChromeDriver(options);
+    }
+
+    /**
+     * Instrumented ChromeDriver whose log is kept in memory and only written when the scenario fails (see support.log.DriverLog)
+     * and whose processes are tracked by ResourceGuard
+     * The page load strategy can be set with -Dpage.load.strategy=normal|eager|none; the page objects wait for
+     * their own readiness condition after navigating (see pages.PageReadiness)
+     */
+    public static WebDriver createChromeDriver(ChromeOptions options) {
+        String strategy = System.getProperty("page.load.strategy");
+        if (strategy != null) {
+            PageLoadStrategy pageLoadStrategy = PageLoadStrategy.fromString(strategy);
+            if (pageLoadStrategy == null) {
+                throw new IllegalArgumentException("Unknown page.load.strategy '" + strategy + "', expected normal, eager or none");
+            }
+            options.setPageLoadStrategy(pageLoadStrategy);
+        }
+        ChromeDriverService service = DriverLog.chromeDriverService();
+        ChromeDriver chrome = new ChromeDriver(service, options);
+        NetworkCapture.attach(chrome);
+        StepTracer.attach(chrome);
+        return new EventFiringDecorator<>(new CommandTimingListener(), new CommandCountingListener(), ResourceGuard.track(chrome, service))
+            .decorate(chrome);
+    }
+
+    /**
+     * Headless Chrome in every environment, e.g. for load-generation virtual users
+     */
+    public static WebDriver createHeadlessDriver() {
+        ChromeOptions options = new ChromeOptions();
+        addHeadlessArguments(options);
+        options.addArguments("--incognito");
+        ChromeProfile.apply(options);
+        return createChromeDriver(options);
+    }
+
+    /**
+     * In-process HtmlUnit DOM engine with JavaScript enabled: no Chrome process, starts in milliseconds
+     * Only suitable for form-level checks (no rendering, no screenshots, no page metrics)
+     */
+    public static WebDriver createBrowserlessDriver() {
+        DriverLog.clearCurrent();
+        HtmlUnitDriver driver = new HtmlUnitDriver(BrowserVersion.CHROME, true) {
+            @Override
+            protected WebClient modifyWebClient(WebClient client) {
+                // Errors in third-party scripts must not fail a login check
+                client.getOptions().setThrowExceptionOnScriptError(false);
+                client.getOptions().setPrintContentOnFailingStatusCode(false);
+                return client;
+            }
+        };
+        return instrument(driver);
+    }
+
+    /**
+     * GitHub Actions sets CI=true
+     */
+    static boolean isCi() {
+        return "true".equals(System.getenv("CI"));
+    }
+
+    private static void addHeadlessArguments(ChromeOptions options) {
+        options.addArguments("--headless=new");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--window-size=1920,1080");
+    }
 
-        return new ChromeDriver(options);
+    /**
+     * Wrap a driver so every WebDriver command is timed (see support.perf.TimingRegistry)
+     * and counted against the scenario's command budget (see support.perf.CommandBudget)
+     * @param driver raw driver
+     * @return decorated driver, to be used in place of the raw one
+     */
+    public static WebDriver instrument(WebDriver driver) {
+        return new EventFiringDecorator<>(new CommandTimingListener(), new CommandCountingListener()).decorate(driver);
     }
 }
 
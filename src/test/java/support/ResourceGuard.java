@@ -0,0 +1,352 @@
+package support;
+
+import org.json.JSONObject;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.service.DriverService;
+import org.openqa.selenium.support.events.WebDriverListener;
+import support.log.TestLog;
+import support.perf.TimingRegistry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Keeps ChromeDriver and Chrome processes from outliving the tests
+ *
+ * - Every ChromeDriver session is tracked with the PIDs of its chromedriver process and the browser it started.
+ * - After quit(), processes still alive are killed.
+ * - At the end of a scenario or test, sessions its thread left open are quit (a leak: e.g. a @Before
+ *   hook that failed after the driver was created).
+ * - On JVM shutdown, sessions still open (leaked, or kept open for reuse) are quit and their processes killed.
+ * - On start-up, processes recorded by earlier runs whose JVM is gone (killed, crashed) are killed.
+ *
+ * PIDs are recorded under &lt;java.io.tmpdir&gt;/selenium-resource-guard/&lt;jvm pid&gt;-&lt;jvm start&gt;/, so runs
+ * of several JVMs on one agent do not touch each other's processes. Only processes whose command
+ * contains "chrome" and whose start time matches the record are ever killed.
+ * Counts are printed on shutdown and written to target/perf/resource-guard.json.
+ */
+public final class ResourceGuard {
+
+    private static final Path PID_DIR = Paths.get(System.getProperty("java.io.tmpdir"), "selenium-resource-guard");
+    private static final ProcessHandle JVM = ProcessHandle.current();
+    private static final Path RUN_DIR = PID_DIR.resolve(JVM.pid() + "-" + startMillis(JVM));
+    private static final Path REPORT_FILE = TimingRegistry.PERF_DIR.resolve("resource-guard.json");
+    private static final long EXIT_WAIT_MILLIS = 2000;
+
+    private static final Map<Session, Boolean> SESSIONS = new ConcurrentHashMap<>();
+    private static final AtomicInteger STARTED = new AtomicInteger();
+    private static final AtomicInteger QUIT = new AtomicInteger();
+    private static final AtomicInteger LEAKED = new AtomicInteger();
+    private static final AtomicInteger KILLED = new AtomicInteger();
+    private static final AtomicInteger REAPED = new AtomicInteger();
+
+    static {
+        reapOrphans();
+        Runtime.getRuntime().addShutdownHook(new Thread(ResourceGuard::shutdown, "resource-guard"));
+    }
+
+    private ResourceGuard() {
+    }
+
+    /**
+     * One ChromeDriver session; as a listener of the decorated driver it sees the test's quit()
+     */
+    private static final class Session implements WebDriverListener {
+        private final WebDriver driver;
+        private final Thread owner = Thread.currentThread();
+        private final Path pidFile;
+        private volatile List<ProcessHandle> processes;
+        private volatile boolean keptOpen;
+
+        private Session(WebDriver driver, Optional<ProcessHandle> driverProcess) {
+            this.driver = driver;
+            this.processes = driverProcess.map(ResourceGuard::tree).orElse(List.of());
+            this.pidFile = RUN_DIR.resolve(driverProcess.map(ProcessHandle::pid).orElse(System.nanoTime()) + ".pids");
+            writePidFile(pidFile, processes);
+        }
+
+        @Override
+        public void beforeQuit(WebDriver driver) {
+            // Renderer processes started since the session began
+            if (!processes.isEmpty()) {
+                processes = tree(processes.get(0));
+            }
+        }
+
+        @Override
+        public void afterQuit(WebDriver driver) {
+            if (SESSIONS.remove(this) != null) {
+                QUIT.incrementAndGet();
+                killSurvivors(processes);
+                deleteQuietly(pidFile);
+            }
+        }
+
+        /**
+         * Quit a session the test did not quit (or kept open for reuse), then kill whatever survived
+         */
+        private void close() {
+            if (SESSIONS.remove(this) == null) {
+                return;
+            }
+            (keptOpen ? QUIT : LEAKED).incrementAndGet();
+            beforeQuit(driver);
+            try {
+                driver.quit();
+            } catch (RuntimeException e) {
+                // The processes are killed below
+            }
+            killSurvivors(processes);
+            deleteQuietly(pidFile);
+        }
+    }
+
+    /**
+     * Track a ChromeDriver session started with the given service
+     * @param driver the undecorated driver
+     * @return listener to add to the driver's decorator, so the test's quit() is seen
+     */
+    public static WebDriverListener track(WebDriver driver, DriverService service) {
+        int port = service.getUrl().getPort();
+        Optional<ProcessHandle> driverProcess = JVM.children()
+            .filter(child -> child.info().arguments().map(arguments -> List.of(arguments).contains("--port=" + port)).orElse(false))
+            .findFirst();
+        Session session = new Session(driver, driverProcess);
+        SESSIONS.put(session, Boolean.TRUE);
+        STARTED.incrementAndGet();
+        return session;
+    }
+
+    /**
+     * Quit the sessions the current thread left open; called when a scenario or test ends
+     * @return number of sessions that had leaked
+     */
+    public static int endScenario() {
+        int leaked = 0;
+        for (Session session : new ArrayList<>(SESSIONS.keySet())) {
+            if (session.owner == Thread.currentThread() && !session.keptOpen) {
+                session.close();
+                leaked++;
+            }
+        }
+        if (leaked > 0) {
+            TestLog.warn("⚠️ " + leaked + " WebDriver session(s) were not quit by the test, closed by ResourceGuard");
+        }
+        return leaked;
+    }
+
+    /**
+     * Keep a session open across scenarios (session reuse); it is quit on shutdown without counting as a leak
+     */
+    public static void keepOpen(WebDriver driver, boolean keepOpen) {
+        session(driver).ifPresent(session -> session.keptOpen = keepOpen);
+    }
+
+    /**
+     * @return the chromedriver process of the session with its current descendants (browser, renderers, GPU...), or nothing
+     */
+    public static List<ProcessHandle> processes(WebDriver driver) {
+        return session(driver)
+            .filter(session -> !session.processes.isEmpty())
+            .map(session -> tree(session.processes.get(0)))
+            .orElse(List.of());
+    }
+
+    private static Optional<Session> session(WebDriver driver) {
+        WebDriver raw = driver;
+        while (raw instanceof WrapsDriver wrapper) {
+            raw = wrapper.getWrappedDriver();
+        }
+        WebDriver target = raw;
+        return SESSIONS.keySet().stream().filter(session -> session.driver == target).findFirst();
+    }
+
+    public static String summary() {
+        return "sessions started: " + STARTED.get() + ", quit by the tests: " + QUIT.get() + ", leaked: " + LEAKED.get()
+            + "; surviving processes killed: " + KILLED.get() + "; orphans of earlier runs reaped: " + REAPED.get();
+    }
+
+    private static void shutdown() {
+        for (Session session : new ArrayList<>(SESSIONS.keySet())) {
+            session.close();
+        }
+        deleteQuietly(RUN_DIR);
+        if (STARTED.get() == 0 && REAPED.get() == 0) {
+            return;
+        }
+        String prefix = LEAKED.get() + KILLED.get() + REAPED.get() > 0 ? "⚠️ " : "✓ ";
+        System.out.println(prefix + "ResourceGuard: " + summary());
+        JSONObject report = new JSONObject()
+            .put("timestamp", Instant.now().toString())
+            .put("sessionsStarted", STARTED.get())
+            .put("sessionsQuit", QUIT.get())
+            .put("sessionsLeaked", LEAKED.get())
+            .put("processesKilled", KILLED.get())
+            .put("orphansReaped", REAPED.get());
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.writeString(REPORT_FILE, report.toString(2), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not write " + REPORT_FILE + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Kill the processes recorded by runs whose JVM is no longer alive
+     */
+    private static void reapOrphans() {
+        if (!Files.isDirectory(PID_DIR)) {
+            return;
+        }
+        try (DirectoryStream<Path> runs = Files.newDirectoryStream(PID_DIR)) {
+            for (Path run : runs) {
+                if (run.equals(RUN_DIR) || isAlive(run.getFileName().toString())) {
+                    continue;
+                }
+                try (DirectoryStream<Path> pidFiles = Files.newDirectoryStream(run, "*.pids")) {
+                    for (Path pidFile : pidFiles) {
+                        List<ProcessHandle> orphans = readPidFile(pidFile);
+                        REAPED.addAndGet(orphans.size());
+                        kill(orphans);
+                    }
+                }
+                deleteQuietly(run);
+            }
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not reap orphaned browser processes: " + e.getMessage());
+        }
+        if (REAPED.get() > 0) {
+            System.out.println("⚠️ ResourceGuard: killed " + REAPED.get() + " browser/driver process(es) left by earlier runs");
+        }
+    }
+
+    /**
+     * @param run directory name "&lt;pid&gt;-&lt;start millis&gt;" of a JVM
+     */
+    private static boolean isAlive(String run) {
+        String[] parts = run.split("-");
+        try {
+            return parts.length == 2 && ProcessHandle.of(Long.parseLong(parts[0]))
+                .filter(ProcessHandle::isAlive)
+                .map(handle -> startMillis(handle) == Long.parseLong(parts[1]))
+                .orElse(false);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * A process with all of its descendants, parent first
+     */
+    private static List<ProcessHandle> tree(ProcessHandle root) {
+        List<ProcessHandle> processes = new ArrayList<>();
+        processes.add(root);
+        root.descendants().forEach(processes::add);
+        return processes;
+    }
+
+    private static void killSurvivors(List<ProcessHandle> processes) {
+        List<ProcessHandle> survivors = awaitExit(processes);
+        KILLED.addAndGet(survivors.size());
+        kill(survivors);
+    }
+
+    private static void kill(List<ProcessHandle> processes) {
+        List<ProcessHandle> alive = processes.stream().filter(ResourceGuard::isChrome).toList();
+        alive.forEach(ProcessHandle::destroy);
+        awaitExit(alive).forEach(ProcessHandle::destroyForcibly);
+    }
+
+    /**
+     * Wait for all the processes together, up to EXIT_WAIT_MILLIS in total
+     * @return the ones still alive
+     */
+    private static List<ProcessHandle> awaitExit(List<ProcessHandle> processes) {
+        try {
+            CompletableFuture.allOf(processes.stream().map(ProcessHandle::onExit).toArray(CompletableFuture[]::new))
+                .get(EXIT_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Some still alive: returned below
+        }
+        return processes.stream().filter(ProcessHandle::isAlive).toList();
+    }
+
+    private static boolean isChrome(ProcessHandle process) {
+        return process.isAlive() && process.info().command().map(command -> command.toLowerCase().contains("chrome")).orElse(false);
+    }
+
+    private static long startMillis(ProcessHandle process) {
+        return process.info().startInstant().map(Instant::toEpochMilli).orElse(0L);
+    }
+
+    private static void writePidFile(Path pidFile, List<ProcessHandle> processes) {
+        StringBuilder lines = new StringBuilder();
+        for (ProcessHandle process : processes) {
+            lines.append(process.pid()).append('\t').append(startMillis(process)).append(System.lineSeparator());
+        }
+        try {
+            Files.createDirectories(RUN_DIR);
+            Files.writeString(pidFile, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            TestLog.warn("⚠️ Could not record browser PIDs: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return the recorded processes that are still alive and were not replaced by another process with the same PID
+     */
+    private static List<ProcessHandle> readPidFile(Path pidFile) throws IOException {
+        List<ProcessHandle> processes = new ArrayList<>();
+        for (String line : Files.readAllLines(pidFile, StandardCharsets.UTF_8)) {
+            String[] fields = line.trim().split("\t");
+            if (fields.length != 2) {
+                continue;
+            }
+            try {
+                long start = Long.parseLong(fields[1]);
+                ProcessHandle.of(Long.parseLong(fields[0]))
+                    .filter(process -> start != 0 && startMillis(process) == start && isChrome(process))
+                    .ifPresent(processes::add);
+            } catch (NumberFormatException e) {
+                // Ignore malformed lines
+            }
+        }
+        return processes;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> walk = Files.walk(path)) {
+                    for (Path file : walk.sorted(Comparator.reverseOrder()).toList()) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            } else {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            // Removed by the next run
+        }
+    }
+}
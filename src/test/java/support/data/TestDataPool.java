@@ -0,0 +1,149 @@
+package support.data;
+
+import com.github.javafaker.Faker;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generated test data, shared by every test and scenario of the JVM
+ *
+ * Faker parses its locale YAML files when it is built, so a single instance is created by a background
+ * thread, which keeps a few batches of checkout customers and invalid credentials ready in a queue.
+ * Each thread takes a whole batch at a time and serves the next values from its own slice without locking.
+ *
+ * Batch n is always generated from the seed and n, so a run is reproduced with -Dtestdata.seed=&lt;seed&gt;
+ * (printed on first use); with parallel threads, which thread gets which batch may vary.
+ * Batch size: -Dtestdata.batch (default 32).
+ */
+public final class TestDataPool {
+
+    /**
+     * Customer for the checkout form
+     */
+    public record Customer(String firstName, String lastName, String postalCode) {
+    }
+
+    /**
+     * Username and password that SauceDemo rejects
+     */
+    public record Credentials(String username, String password) {
+    }
+
+    private record Batch(List<Customer> customers, List<Credentials> credentials) {
+    }
+
+    private static final Set<String> VALID_USERS = Set.of(
+        "standard_user", "locked_out_user", "problem_user", "performance_glitch_user", "error_user", "visual_user");
+    private static final String VALID_PASSWORD = "secret_sauce";
+    private static final int READY_BATCHES = 2;
+    private static final long BATCH_TIMEOUT_SECONDS = 30;
+
+    private static final long SEED = Long.getLong("testdata.seed", ThreadLocalRandom.current().nextLong());
+    private static final int BATCH_SIZE = Math.max(1, Integer.getInteger("testdata.batch", 32));
+    private static final BlockingQueue<Batch> READY = new ArrayBlockingQueue<>(READY_BATCHES);
+    private static final ThreadLocal<ArrayDeque<Customer>> CUSTOMERS = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<ArrayDeque<Credentials>> CREDENTIALS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    static {
+        Thread generator = new Thread(TestDataPool::generate, "test-data-pool");
+        generator.setDaemon(true);
+        generator.start();
+        System.out.println("✓ Test data seed: " + SEED + " (reproduce with -Dtestdata.seed=" + SEED + ")");
+    }
+
+    private TestDataPool() {
+    }
+
+    /**
+     * Start building the data in the background, so the first scenario does not wait for Faker
+     */
+    public static void warmUp() {
+        // Loading the class starts the generator
+    }
+
+    public static long seed() {
+        return SEED;
+    }
+
+    public static Customer customer() {
+        if (CUSTOMERS.get().isEmpty()) {
+            takeBatch();
+        }
+        return CUSTOMERS.get().poll();
+    }
+
+    public static Credentials invalidCredentials() {
+        if (CREDENTIALS.get().isEmpty()) {
+            takeBatch();
+        }
+        return CREDENTIALS.get().poll();
+    }
+
+    /**
+     * Refill the empty slices of this thread from the next ready batch
+     */
+    private static void takeBatch() {
+        Batch batch;
+        try {
+            batch = READY.poll(BATCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for test data", e);
+        }
+        if (batch == null) {
+            throw new IllegalStateException("No test data generated within " + BATCH_TIMEOUT_SECONDS + "s");
+        }
+        if (CUSTOMERS.get().isEmpty()) {
+            CUSTOMERS.get().addAll(batch.customers());
+        }
+        if (CREDENTIALS.get().isEmpty()) {
+            CREDENTIALS.get().addAll(batch.credentials());
+        }
+    }
+
+    /**
+     * Generator loop: blocks while {@value #READY_BATCHES} batches are waiting to be used
+     */
+    private static void generate() {
+        Random random = new Random();
+        Faker faker = new Faker(Locale.ENGLISH, random);
+        try {
+            for (long batchNumber = 0; ; batchNumber++) {
+                random.setSeed(SEED * 31 + batchNumber);
+                READY.put(generateBatch(faker));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Test data generation failed: " + e.getMessage());
+        }
+    }
+
+    private static Batch generateBatch(Faker faker) {
+        List<Customer> customers = new ArrayList<>(BATCH_SIZE);
+        List<Credentials> credentials = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            customers.add(new Customer(faker.name().firstName(), faker.name().lastName(), faker.number().digits(5)));
+
+            String username = faker.name().username();
+            while (VALID_USERS.contains(username)) {
+                username = faker.name().username();
+            }
+            String password = faker.internet().password();
+            while (VALID_PASSWORD.equals(password)) {
+                password = faker.internet().password();
+            }
+            credentials.add(new Credentials(username, password));
+        }
+        return new Batch(customers, credentials);
+    }
+}
@@ -0,0 +1,240 @@
+package support.load;
+
+import org.json.JSONObject;
+import org.openqa.selenium.WebDriver;
+import pages.LoginPage;
+import support.DriverFactory;
+import support.data.TestDataPool;
+import support.perf.LatencyHistogram;
+import support.perf.PagePerformance;
+import support.perf.TimingRegistry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load-generation mode: N concurrent headless Chrome "virtual users" repeating PurchaseJourney
+ *
+ * Properties:
+ * - load.users       number of virtual users (default 5)
+ * - load.rampUp      seconds over which the users are started, evenly spaced (default 30)
+ * - load.duration    seconds of steady state once every user is running (default 120)
+ * - load.thinkTime   average pause between two steps in ms, randomized by +/-50% (default 1000)
+ * - base.url         site under test, e.g. a local stand-in (default https://www.saucedemo.com/)
+ *
+ * Reports completed purchases per minute during the steady state and latency percentiles per step
+ * to target/perf/load-report.json.
+ *
+ * How to run: mvn -Pload test-compile exec:java -Dload.users=10 -Dload.duration=300
+ */
+public final class LoadRunner {
+
+    private static final Path REPORT_FILE = TimingRegistry.PERF_DIR.resolve("load-report.json");
+    private static final String JOURNEY = "purchase journey";
+
+    private final int users = Integer.getInteger("load.users", 5);
+    private final long rampUpNanos = TimeUnit.SECONDS.toNanos(Long.getLong("load.rampUp", 30));
+    private final long durationNanos = TimeUnit.SECONDS.toNanos(Long.getLong("load.duration", 120));
+    private final long thinkTimeMillis = Long.getLong("load.thinkTime", 1000);
+
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> errors = new ConcurrentHashMap<>();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger steadyStateCompleted = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private long startNanos;
+
+    private LoadRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        TestDataPool.warmUp();
+        LoadRunner runner = new LoadRunner();
+        runner.run();
+        System.out.println("✓ Load report written to " + runner.writeReport());
+        System.out.println(runner.summary());
+    }
+
+    private void run() throws InterruptedException {
+        System.out.println(String.format(Locale.ROOT, "Starting load run: %d users, ramp-up %ds, steady state %ds, think time %dms against %s",
+            users, TimeUnit.NANOSECONDS.toSeconds(rampUpNanos), TimeUnit.NANOSECONDS.toSeconds(durationNanos), thinkTimeMillis, LoginPage.baseUrl()));
+        startNanos = System.nanoTime();
+        List<Thread> threads = new ArrayList<>();
+        for (int user = 0; user < users; user++) {
+            int id = user;
+            Thread thread = new Thread(() -> virtualUser(id), "virtual-user-" + id);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private void virtualUser(int id) {
+        long endNanos = startNanos + rampUpNanos + durationNanos;
+        WebDriver driver = null;
+        try {
+            sleepNanos(users > 1 ? rampUpNanos * id / users : 0);
+            while (System.nanoTime() < endNanos) {
+                if (driver == null) {
+                    driver = startBrowser(id);
+                    if (driver == null) {
+                        return;
+                    }
+                }
+                PagePerformance.startScenario();
+                long start = System.nanoTime();
+                try {
+                    new PurchaseJourney(driver).run(this::recordStep, this::thinkTime);
+                    record(JOURNEY, System.nanoTime() - start);
+                    completed.incrementAndGet();
+                    if (start >= startNanos + rampUpNanos) {
+                        steadyStateCompleted.incrementAndGet();
+                    }
+                } catch (RuntimeException e) {
+                    failed.incrementAndGet();
+                    errors.computeIfAbsent(firstLine(e), key -> new AtomicInteger()).incrementAndGet();
+                    // Start the next journey from a clean browser (empty cart, no half-finished checkout)
+                    quit(driver);
+                    driver = null;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            quit(driver);
+        }
+    }
+
+    /**
+     * @return the browser, or null if it could not be started (the user then stops)
+     */
+    private WebDriver startBrowser(int id) {
+        try {
+            WebDriver driver = DriverFactory.createHeadlessDriver();
+            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+            driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
+            return driver;
+        } catch (RuntimeException e) {
+            errors.computeIfAbsent("Browser start failed - " + firstLine(e), key -> new AtomicInteger()).incrementAndGet();
+            System.err.println("⚠️ Virtual user " + id + " stopped: could not start Chrome: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void quit(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Could not close a virtual user's browser: " + e.getMessage());
+        }
+    }
+
+    private void recordStep(String step, long nanos, boolean failedStep) {
+        record(failedStep ? step + " (error)" : step, nanos);
+    }
+
+    private void record(String name, long nanos) {
+        latencies.computeIfAbsent(name, key -> new LatencyHistogram()).record(nanos);
+    }
+
+    private void thinkTime() {
+        try {
+            sleepNanos(TimeUnit.MILLISECONDS.toNanos(thinkTimeMillis) * ThreadLocalRandom.current().nextLong(50, 151) / 100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Virtual user interrupted", e);
+        }
+    }
+
+    private static void sleepNanos(long nanos) throws InterruptedException {
+        if (nanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    }
+
+    private double purchasesPerMinute() {
+        return steadyStateCompleted.get() / (durationNanos / 60_000_000_000.0);
+    }
+
+    private Path writeReport() throws IOException {
+        JSONObject config = new JSONObject()
+            .put("users", users)
+            .put("rampUpSeconds", TimeUnit.NANOSECONDS.toSeconds(rampUpNanos))
+            .put("durationSeconds", TimeUnit.NANOSECONDS.toSeconds(durationNanos))
+            .put("thinkTimeMs", thinkTimeMillis)
+            .put("baseUrl", LoginPage.baseUrl());
+        JSONObject steps = new JSONObject();
+        orderedLatencies().forEach((name, histogram) -> steps.put(name, histogram.toJson()));
+        JSONObject errorCounts = new JSONObject();
+        errors.forEach((message, count) -> errorCounts.put(message, count.get()));
+        JSONObject report = new JSONObject()
+            .put("generatedAt", Instant.now().toString())
+            .put("config", config)
+            .put("completedPurchases", completed.get())
+            .put("steadyStatePurchases", steadyStateCompleted.get())
+            .put("purchasesPerMinute", Math.round(purchasesPerMinute() * 100) / 100.0)
+            .put("failedJourneys", failed.get())
+            .put("latencies", steps)
+            .put("errors", errorCounts);
+        Files.createDirectories(REPORT_FILE.getParent());
+        Files.writeString(REPORT_FILE, report.toString(2), StandardCharsets.UTF_8);
+        return REPORT_FILE.toAbsolutePath();
+    }
+
+    private String summary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format(Locale.ROOT, "%nCompleted purchases: %d (%d in steady state, %.2f/min), failed journeys: %d%n",
+            completed.get(), steadyStateCompleted.get(), purchasesPerMinute(), failed.get()));
+        summary.append(String.format(Locale.ROOT, "%-28s %7s %9s %9s %9s %9s%n", "Step", "Count", "p50 ms", "p90 ms", "p95 ms", "p99 ms"));
+        orderedLatencies().forEach((name, histogram) -> summary.append(String.format(Locale.ROOT, "%-28s %7d %9.0f %9.0f %9.0f %9.0f%n",
+            name, histogram.count(), histogram.percentileMillis(50), histogram.percentileMillis(90),
+            histogram.percentileMillis(95), histogram.percentileMillis(99))));
+        errors.forEach((message, count) -> summary.append("⚠️ ").append(count.get()).append("x ").append(message).append(System.lineSeparator()));
+        return summary.toString();
+    }
+
+    /**
+     * Journey steps in flow order, then the error entries and the whole journey
+     */
+    private Map<String, LatencyHistogram> orderedLatencies() {
+        Map<String, LatencyHistogram> ordered = new LinkedHashMap<>();
+        for (String step : PurchaseJourney.STEPS) {
+            if (latencies.containsKey(step)) {
+                ordered.put(step, latencies.get(step));
+            }
+        }
+        latencies.keySet().stream().sorted().filter(name -> !ordered.containsKey(name) && !JOURNEY.equals(name))
+            .forEach(name -> ordered.put(name, latencies.get(name)));
+        if (latencies.containsKey(JOURNEY)) {
+            ordered.put(JOURNEY, latencies.get(JOURNEY));
+        }
+        return ordered;
+    }
+
+    private static String firstLine(Throwable error) {
+        Throwable root = error;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String message = root.getMessage() == null ? root.getClass().getName() : root.getMessage();
+        return root.getClass().getSimpleName() + ": " + message.lines().findFirst().orElse("");
+    }
+}
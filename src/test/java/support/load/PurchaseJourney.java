@@ -0,0 +1,84 @@
+package support.load;
+
+import org.openqa.selenium.WebDriver;
+import pages.CartPage;
+import pages.CheckoutCompletePage;
+import pages.CheckoutOverviewPage;
+import pages.CheckoutPage;
+import pages.ProductPurchasePage;
+
+import java.util.List;
+
+/**
+ * One complete purchase through the page objects, as driven by a load-test virtual user
+ * Mirrors the "Complete purchase flow" scenario of ProductPurchase.feature without its assertions
+ */
+public class PurchaseJourney {
+
+    public static final List<String> STEPS = List.of(
+        "login", "sort by price", "add to cart", "open cart", "checkout", "shipping information", "finish", "back home");
+
+    /**
+     * Receives the duration of each step, failed ones included
+     */
+    public interface StepListener {
+        void stepFinished(String step, long nanos, boolean failed);
+    }
+
+    private final ProductPurchasePage productPage;
+    private final CartPage cartPage;
+    private final CheckoutPage checkoutPage;
+    private final CheckoutOverviewPage checkoutOverviewPage;
+    private final CheckoutCompletePage checkoutCompletePage;
+
+    public PurchaseJourney(WebDriver driver) {
+        this.productPage = new ProductPurchasePage(driver);
+        this.cartPage = new CartPage(driver);
+        this.checkoutPage = new CheckoutPage(driver);
+        this.checkoutOverviewPage = new CheckoutOverviewPage(driver);
+        this.checkoutCompletePage = new CheckoutCompletePage(driver);
+    }
+
+    /**
+     * Run every step in order, stopping at the first failure
+     * @param thinkTime pause between two steps
+     */
+    public void run(StepListener listener, Runnable thinkTime) {
+        step(listener, thinkTime, "login", productPage::loginStandardUser);
+        step(listener, thinkTime, "sort by price", () -> {
+            productPage.clickSortDropdown();
+            productPage.selectPriceLowToHigh();
+        });
+        step(listener, thinkTime, "add to cart", () -> {
+            productPage.storeFirstProductInfo();
+            productPage.clickFirstItemAddToCart();
+        });
+        step(listener, thinkTime, "open cart", productPage::clickShoppingCart);
+        step(listener, thinkTime, "checkout", cartPage::clickCheckout);
+        step(listener, thinkTime, "shipping information", () -> {
+            checkoutPage.fillCheckoutInformation();
+            checkoutPage.clickContinue();
+        });
+        step(listener, thinkTime, "finish", () -> {
+            checkoutOverviewPage.clickFinish();
+            if (!checkoutCompletePage.isThankYouMessageVisible()) {
+                throw new IllegalStateException("Order confirmation not displayed");
+            }
+        });
+        step(listener, null, "back home", checkoutCompletePage::clickBackHome);
+    }
+
+    private void step(StepListener listener, Runnable thinkTime, String name, Runnable action) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            action.run();
+            failed = false;
+        } finally {
+            listener.stepFinished(name, System.nanoTime() - start, failed);
+        }
+        if (thinkTime != null) {
+            thinkTime.run();
+        }
+    }
+}
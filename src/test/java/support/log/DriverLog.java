@@ -0,0 +1,123 @@
+package support.log;
+
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chromium.ChromiumDriverLogLevel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * ChromeDriver log of one browser session, kept in memory
+ *
+ * The log goes to a fixed-size ring buffer instead of a file, so a passing scenario costs no disk I/O
+ * and a long run cannot grow the log without bound. When a scenario fails, the last part of the log
+ * of its session is written to target/driver-logs/&lt;scenario name&gt;_&lt;correlation ID&gt;.log.
+ *
+ * Options:
+ * - -Dchromedriver.log.level=ALL|DEBUG|INFO|WARNING|SEVERE|OFF (default INFO: commands and responses)
+ * - -Dchromedriver.log.buffer=KB: kept per session (default 512)
+ */
+public final class DriverLog extends OutputStream {
+
+    public static final Path LOG_DIR = Paths.get("target", "driver-logs");
+
+    private static final ChromiumDriverLogLevel LEVEL = ChromiumDriverLogLevel.fromString(System.getProperty("chromedriver.log.level", "INFO"));
+    private static final int CAPACITY = Math.max(16, Integer.getInteger("chromedriver.log.buffer", 512)) * 1024;
+    private static final ThreadLocal<DriverLog> CURRENT = new ThreadLocal<>();
+
+    private final byte[] buffer = new byte[CAPACITY];
+    private long written;
+
+    private DriverLog() {
+    }
+
+    /**
+     * ChromeDriver service logging into a new buffer, which becomes the current one of this thread
+     */
+    public static ChromeDriverService chromeDriverService() {
+        DriverLog log = new DriverLog();
+        CURRENT.set(log);
+        return new ChromeDriverService.Builder()
+            .withLogLevel(LEVEL)
+            .withReadableTimestamp(true)
+            .withLogOutput(log)
+            .build();
+    }
+
+    /**
+     * Forget the log of the previous session, e.g. when the next driver is not a ChromeDriver
+     */
+    public static void clearCurrent() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Write the log of the last ChromeDriver session started on this thread
+     * @param name scenario or test name, for the file name
+     * @return the file, or null if this thread has no ChromeDriver log
+     */
+    public static Path saveCurrent(String name) {
+        DriverLog log = CURRENT.get();
+        if (log == null) {
+            return null;
+        }
+        String correlationId = TestLog.correlationId() == null ? Long.toString(System.currentTimeMillis()) : TestLog.correlationId();
+        Path file = LOG_DIR.resolve(TestLog.fileNamePrefix(name) + correlationId + ".log");
+        try {
+            Files.createDirectories(LOG_DIR);
+            Files.write(file, log.snapshot());
+            TestLog.info("ChromeDriver log saved: " + file);
+            return file;
+        } catch (IOException e) {
+            TestLog.warn("⚠️ Could not save the ChromeDriver log: " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        buffer[(int) (written++ % CAPACITY)] = (byte) b;
+    }
+
+    @Override
+    public synchronized void write(byte[] bytes, int offset, int length) {
+        if (length > CAPACITY) {
+            offset += length - CAPACITY;
+            written += length - CAPACITY;
+            length = CAPACITY;
+        }
+        int position = (int) (written % CAPACITY);
+        int first = Math.min(length, CAPACITY - position);
+        System.arraycopy(bytes, offset, buffer, position, first);
+        System.arraycopy(bytes, offset + first, buffer, 0, length - first);
+        written += length;
+    }
+
+    /**
+     * @return the buffered log, oldest first; once the buffer has wrapped, starting at a whole line
+     */
+    synchronized byte[] snapshot() {
+        if (written <= CAPACITY) {
+            return Arrays.copyOf(buffer, (int) written);
+        }
+        int position = (int) (written % CAPACITY);
+        byte[] ordered = new byte[CAPACITY];
+        System.arraycopy(buffer, position, ordered, 0, CAPACITY - position);
+        System.arraycopy(buffer, 0, ordered, CAPACITY - position, position);
+
+        int lineStart = 0;
+        while (lineStart < ordered.length && ordered[lineStart++] != '\n') {
+            // skip the partial first line
+        }
+        byte[] header = ("[" + (written - CAPACITY + lineStart) + " earlier bytes dropped, see -Dchromedriver.log.buffer]"
+            + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        byte[] snapshot = Arrays.copyOf(header, header.length + ordered.length - lineStart);
+        System.arraycopy(ordered, lineStart, snapshot, header.length, ordered.length - lineStart);
+        return snapshot;
+    }
+}
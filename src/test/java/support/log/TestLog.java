@@ -0,0 +1,282 @@
+package support.log;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test log for page objects, step definitions and tests
+ *
+ * Logging only adds an event to a bounded buffer; a background thread formats the events and writes them
+ * to the console and to one file per scenario, so a test thread never waits for the console.
+ * When the buffer is full, events are dropped and the number of dropped events is logged instead.
+ *
+ * Every line carries the correlation ID of the scenario that logged it:
+ *   12:04:31.518 INFO  [3f9c2a1e] Clicked Checkout button
+ * The scenario files are target/test-logs/&lt;scenario name&gt;_&lt;correlation ID&gt;.log and hold every level.
+ *
+ * Options:
+ * - -Dlog.level=DEBUG|INFO|WARN|ERROR: console threshold (default INFO)
+ * - -Dlog.console=false: scenario files only
+ * - -Dlog.buffer=N: buffered events (default 8192)
+ */
+public final class TestLog {
+
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR
+    }
+
+    public static final Path LOG_DIR = Paths.get("target", "test-logs");
+
+    private enum Kind {
+        LOG, OPEN, CLOSE, FLUSH
+    }
+
+    private record Event(Kind kind, long time, Level level, String correlationId, String message, Throwable error,
+                         CountDownLatch done) {
+    }
+
+    private static final DateTimeFormatter CONSOLE_TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ISO_INSTANT;
+    private static final long CONTROL_TIMEOUT_SECONDS = 5;
+    private static final int DRAIN_BATCH = 512;
+
+    private static final Level CONSOLE_LEVEL = Level.valueOf(System.getProperty("log.level", "INFO").toUpperCase(Locale.ROOT));
+    private static final boolean CONSOLE = Boolean.parseBoolean(System.getProperty("log.console", "true"));
+    private static final BlockingQueue<Event> BUFFER = new ArrayBlockingQueue<>(Math.max(16, Integer.getInteger("log.buffer", 8192)));
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final ThreadLocal<String> CORRELATION_ID = new ThreadLocal<>();
+    private static final ThreadLocal<String> SCENARIO_NAME = new ThreadLocal<>();
+
+    // Writer thread state
+    private static final PrintStream OUT = System.out;
+    private static final Map<String, BufferedWriter> FILES = new HashMap<>();
+
+    static {
+        Thread writer = new Thread(TestLog::write, "test-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(TestLog::flush, "test-log-flush"));
+    }
+
+    private TestLog() {
+    }
+
+    /**
+     * Give the current thread a new correlation ID and open its scenario file
+     * @return the correlation ID
+     */
+    public static String startScenario(String name) {
+        String correlationId = UUID.randomUUID().toString().substring(0, 8);
+        CORRELATION_ID.set(correlationId);
+        SCENARIO_NAME.set(name);
+        control(new Event(Kind.OPEN, System.currentTimeMillis(), Level.INFO, correlationId, name, null, null));
+        info("Scenario started: " + name);
+        return correlationId;
+    }
+
+    /**
+     * Close the scenario file of the current thread; its lines are on disk once {@link #flush()} returns
+     */
+    public static void endScenario() {
+        String correlationId = CORRELATION_ID.get();
+        if (correlationId == null) {
+            return;
+        }
+        CORRELATION_ID.remove();
+        SCENARIO_NAME.remove();
+        control(new Event(Kind.CLOSE, System.currentTimeMillis(), Level.INFO, correlationId, null, null, null));
+    }
+
+    /**
+     * @return the correlation ID of the scenario running on this thread, or null
+     */
+    public static String correlationId() {
+        return CORRELATION_ID.get();
+    }
+
+    /**
+     * @return the name of the scenario running on this thread, or null
+     */
+    public static String scenarioName() {
+        return SCENARIO_NAME.get();
+    }
+
+    /**
+     * @return the file of a scenario started with {@link #startScenario(String)}
+     */
+    public static Path scenarioFile(String name, String correlationId) {
+        return LOG_DIR.resolve(fileNamePrefix(name) + correlationId + ".log");
+    }
+
+    /**
+     * Scenario files start with the sanitized scenario name and an underscore
+     */
+    public static String fileNamePrefix(String name) {
+        return name.replaceAll("[^a-zA-Z0-9._-]", "_") + "_";
+    }
+
+    public static void debug(String message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    public static void info(String message) {
+        log(Level.INFO, message, null);
+    }
+
+    public static void warn(String message) {
+        log(Level.WARN, message, null);
+    }
+
+    public static void error(String message) {
+        log(Level.ERROR, message, null);
+    }
+
+    public static void error(String message, Throwable error) {
+        log(Level.ERROR, message, error);
+    }
+
+    public static void log(Level level, String message, Throwable error) {
+        Event event = new Event(Kind.LOG, System.currentTimeMillis(), level, CORRELATION_ID.get(), message, error, null);
+        if (!BUFFER.offer(event)) {
+            DROPPED.incrementAndGet();
+        }
+    }
+
+    /**
+     * Wait until every event logged so far is written
+     */
+    public static void flush() {
+        CountDownLatch done = new CountDownLatch(1);
+        if (control(new Event(Kind.FLUSH, System.currentTimeMillis(), Level.INFO, null, null, null, done))) {
+            try {
+                done.await(CONTROL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Scenario boundaries and flushes are never dropped, they wait for room in the buffer
+     */
+    private static boolean control(Event event) {
+        try {
+            return BUFFER.offer(event, CONTROL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void write() {
+        List<Event> batch = new ArrayList<>(DRAIN_BATCH);
+        while (true) {
+            try {
+                batch.add(BUFFER.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            BUFFER.drainTo(batch, DRAIN_BATCH - 1);
+            long dropped = DROPPED.getAndSet(0);
+            if (dropped > 0) {
+                writeLine(new Event(Kind.LOG, System.currentTimeMillis(), Level.WARN, null,
+                    dropped + " log event(s) dropped, the log buffer is full (-Dlog.buffer)", null, null));
+            }
+            for (Event event : batch) {
+                switch (event.kind()) {
+                    case LOG -> writeLine(event);
+                    case OPEN -> open(event);
+                    case CLOSE -> close(event.correlationId());
+                    case FLUSH -> {
+                        flushAll();
+                        event.done().countDown();
+                    }
+                }
+            }
+            batch.clear();
+            if (BUFFER.isEmpty()) {
+                flushAll();
+            }
+        }
+    }
+
+    private static void writeLine(Event event) {
+        String message = event.message() == null ? "null" : event.message().strip();
+        String correlation = event.correlationId() == null ? "" : "[" + event.correlationId() + "] ";
+        String level = String.format("%-5s ", event.level());
+        String stackTrace = event.error() == null ? "" : System.lineSeparator() + stackTrace(event.error());
+
+        if (CONSOLE && event.level().compareTo(CONSOLE_LEVEL) >= 0) {
+            OUT.print(CONSOLE_TIME.format(Instant.ofEpochMilli(event.time())) + " " + level + correlation + message
+                + stackTrace + System.lineSeparator());
+        }
+        BufferedWriter file = event.correlationId() == null ? null : FILES.get(event.correlationId());
+        if (file != null) {
+            try {
+                file.write(FILE_TIME.format(Instant.ofEpochMilli(event.time())) + " " + level + correlation + message + stackTrace);
+                file.newLine();
+            } catch (IOException e) {
+                OUT.println("⚠️ Could not write the scenario log: " + e.getMessage());
+                close(event.correlationId());
+            }
+        }
+    }
+
+    private static void open(Event event) {
+        try {
+            Files.createDirectories(LOG_DIR);
+            FILES.put(event.correlationId(), Files.newBufferedWriter(scenarioFile(event.message(), event.correlationId()), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            OUT.println("⚠️ Could not create the scenario log: " + e.getMessage());
+        }
+    }
+
+    private static void close(String correlationId) {
+        BufferedWriter file = FILES.remove(correlationId);
+        if (file != null) {
+            try {
+                file.close();
+            } catch (IOException e) {
+                OUT.println("⚠️ Could not close the scenario log: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void flushAll() {
+        OUT.flush();
+        for (BufferedWriter file : FILES.values()) {
+            try {
+                file.flush();
+            } catch (IOException e) {
+                OUT.println("⚠️ Could not flush the scenario log: " + e.getMessage());
+            }
+        }
+    }
+
+    private static String stackTrace(Throwable error) {
+        StringWriter trace = new StringWriter();
+        error.printStackTrace(new PrintWriter(trace));
+        return trace.toString().stripTrailing();
+    }
+}
@@ -0,0 +1,169 @@
+package support.perf;
+
+import org.json.JSONObject;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import support.ResourceGuard;
+import support.log.TestLog;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memory of a browser session, sampled when a scenario ends
+ *
+ * - JS heap, DOM nodes and documents of the page: CDP Performance.getMetrics, or performance.memory
+ *   when CDP is not available
+ * - Memory of the session's processes (chromedriver, browser, renderers, GPU): proportional set size
+ *   from /proc on Linux, so pages shared between Chrome processes are not counted twice
+ *
+ * Samples are appended to target/perf/browser-memory.jsonl. With session reuse (-Ddriver.reuse=true),
+ * a session over -Ddriver.recycle.heap.mb (default 512) or -Ddriver.recycle.memory.mb (default 1536)
+ * is quit and the next scenario gets a fresh browser. Disable sampling with -Dperf.memory=false.
+ */
+public final class BrowserMemory {
+
+    public static final Path SAMPLES_FILE = TimingRegistry.PERF_DIR.resolve("browser-memory.jsonl");
+
+    private static final long MB = 1024 * 1024;
+    private static final long HEAP_LIMIT = Long.getLong("driver.recycle.heap.mb", 512) * MB;
+    private static final long PROCESS_LIMIT = Long.getLong("driver.recycle.memory.mb", 1536) * MB;
+
+    private static final String MEMORY_SCRIPT = """
+        const memory = performance.memory;
+        return memory ? [memory.usedJSHeapSize, memory.totalJSHeapSize] : null;
+        """;
+
+    /**
+     * @param jsHeapUsed bytes, -1 if unknown (same for the other fields)
+     * @param processMemory total proportional set size of the session's processes
+     * @param scenarios scenarios run by the session so far, this one included
+     */
+    public record Sample(String scenario, long jsHeapUsed, long jsHeapTotal, long domNodes, long documents,
+                         long processMemory, int processes, int scenarios) {
+
+        public boolean overLimit() {
+            return jsHeapUsed > HEAP_LIMIT || processMemory > PROCESS_LIMIT;
+        }
+
+        JSONObject toJson() {
+            return new JSONObject()
+                .put("timestamp", Instant.now().toString())
+                .put("scenario", scenario == null ? JSONObject.NULL : scenario)
+                .put("jsHeapUsedBytes", jsHeapUsed)
+                .put("jsHeapTotalBytes", jsHeapTotal)
+                .put("domNodes", domNodes)
+                .put("documents", documents)
+                .put("processMemoryBytes", processMemory)
+                .put("processes", processes)
+                .put("sessionScenarios", scenarios);
+        }
+    }
+
+    private BrowserMemory() {
+    }
+
+    public static boolean enabled() {
+        return Boolean.parseBoolean(System.getProperty("perf.memory", "true"));
+    }
+
+    /**
+     * Sample the session and append the sample to target/perf/browser-memory.jsonl
+     * @param scenarios scenarios run by the session so far
+     * @return the sample, or null if sampling is disabled or the driver is not a browser
+     */
+    public static Sample sample(WebDriver driver, int scenarios) {
+        if (!enabled()) {
+            return null;
+        }
+        WebDriver raw = driver;
+        while (raw instanceof WrapsDriver wrapper) {
+            raw = wrapper.getWrappedDriver();
+        }
+        long[] page = pageMetrics(raw);
+        List<ProcessHandle> processes = ResourceGuard.processes(driver);
+        if (page == null && processes.isEmpty()) {
+            return null;
+        }
+        long processMemory = processes.isEmpty() ? -1 : processes.stream().mapToLong(BrowserMemory::memoryOf).filter(bytes -> bytes > 0).sum();
+        Sample sample = page == null
+            ? new Sample(TestLog.scenarioName(), -1, -1, -1, -1, processMemory, processes.size(), scenarios)
+            : new Sample(TestLog.scenarioName(), page[0], page[1], page[2], page[3], processMemory, processes.size(), scenarios);
+        TestLog.info(String.format("Browser memory: JS heap %d MB, %d DOM nodes, processes %d MB (%d)",
+            sample.jsHeapUsed() / MB, sample.domNodes(), sample.processMemory() / MB, sample.processes()));
+        try {
+            synchronized (BrowserMemory.class) {
+                Files.createDirectories(SAMPLES_FILE.getParent());
+                Files.writeString(SAMPLES_FILE, sample.toJson() + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        } catch (IOException e) {
+            TestLog.warn("⚠️ Could not write browser memory sample: " + e.getMessage());
+        }
+        return sample;
+    }
+
+    /**
+     * @return JS heap used, JS heap total, DOM nodes, documents; or null
+     */
+    private static long[] pageMetrics(WebDriver raw) {
+        try {
+            if (raw instanceof HasCdp cdp) {
+                cdp.executeCdpCommand("Performance.enable", Map.of());
+                Object metrics = cdp.executeCdpCommand("Performance.getMetrics", Map.of()).get("metrics");
+                long[] values = {-1, -1, -1, -1};
+                if (metrics instanceof List<?> list) {
+                    for (Object entry : list) {
+                        if (entry instanceof Map<?, ?> metric && metric.get("value") instanceof Number value) {
+                            switch (String.valueOf(metric.get("name"))) {
+                                case "JSHeapUsedSize" -> values[0] = value.longValue();
+                                case "JSHeapTotalSize" -> values[1] = value.longValue();
+                                case "Nodes" -> values[2] = value.longValue();
+                                case "Documents" -> values[3] = value.longValue();
+                                default -> {
+                                }
+                            }
+                        }
+                    }
+                }
+                return values;
+            }
+            if (raw instanceof JavascriptExecutor executor && executor.executeScript(MEMORY_SCRIPT) instanceof List<?> memory
+                && memory.size() == 2 && memory.get(0) instanceof Number used && memory.get(1) instanceof Number total) {
+                return new long[]{used.longValue(), total.longValue(), -1, -1};
+            }
+        } catch (WebDriverException e) {
+            TestLog.warn("⚠️ Could not read browser memory: " + e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Proportional set size (or resident set size on older kernels) of a process, -1 if unknown
+     */
+    private static long memoryOf(ProcessHandle process) {
+        Path proc = Paths.get("/proc", Long.toString(process.pid()));
+        for (String[] source : new String[][]{{"smaps_rollup", "Pss:"}, {"status", "VmRSS:"}}) {
+            try {
+                for (String line : Files.readAllLines(proc.resolve(source[0]), StandardCharsets.UTF_8)) {
+                    if (line.startsWith(source[1])) {
+                        return Long.parseLong(line.substring(source[1].length()).replace("kB", "").trim()) * 1024;
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                // Try the next source
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,121 @@
+package support.perf;
+
+import io.cucumber.core.cli.Main;
+import org.openqa.selenium.WebDriver;
+import support.ChromeProfile;
+import support.ChromeProfile.Flag;
+import support.DriverFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Measures what each flag of the throughput Chrome profile is worth
+ *
+ * Configurations: the default profile, the full throughput profile, and the throughput profile without
+ * each one of its flags. Every round runs each configuration once (so drift affects all of them alike):
+ * - driver start: DriverFactory.createDriver() until the session is ready
+ * - scenario: a Cucumber run of the benchmark scenario, driver start included
+ *
+ * For a left-out flag, "cost" is how much slower the scenario's median is without it: positive means the flag pays off.
+ *
+ * Properties:
+ * - benchmark.runs  rounds (default 3)
+ * - benchmark.tags  scenarios to run (default "@purchase and @smoke")
+ *
+ * How to run: mvn test-compile exec:java -Dexec.mainClass=support.perf.ChromeFlagBenchmark -Dexec.classpathScope=test
+ * Report: target/perf/chrome-flags.tsv
+ */
+public final class ChromeFlagBenchmark {
+
+    private static final Path REPORT_FILE = TimingRegistry.PERF_DIR.resolve("chrome-flags.tsv");
+    private static final String FULL = "throughput";
+
+    private record Configuration(String name, String profile, String exclude) {
+    }
+
+    private static final class Result {
+        final LatencyHistogram start = new LatencyHistogram();
+        final LatencyHistogram scenario = new LatencyHistogram();
+        int failures;
+    }
+
+    private ChromeFlagBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int runs = Integer.getInteger("benchmark.runs", 3);
+        String tags = System.getProperty("benchmark.tags", "@purchase and @smoke");
+
+        List<Configuration> configurations = new ArrayList<>();
+        configurations.add(new Configuration("default", "default", ""));
+        configurations.add(new Configuration(FULL, "throughput", ""));
+        for (Flag flag : ChromeProfile.THROUGHPUT) {
+            configurations.add(new Configuration("without " + flag.name(), "throughput", flag.name()));
+        }
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (int round = 1; round <= runs; round++) {
+            for (Configuration configuration : configurations) {
+                System.out.println("Round " + round + "/" + runs + ": " + configuration.name());
+                Result result = results.computeIfAbsent(configuration.name(), name -> new Result());
+                System.setProperty("chrome.profile", configuration.profile());
+                System.setProperty("chrome.profile.exclude", configuration.exclude());
+                try {
+                    result.start.record(measureDriverStart());
+                    long startNanos = System.nanoTime();
+                    byte status = Main.run(new String[]{
+                        "--glue", "stepdefinitions.login", "--glue", "stepdefinitions.purchase", "--glue", "stepdefinitions.common",
+                        "--tags", tags, "--plugin", "progress", "--monochrome", "src/test/java/features"
+                    }, Thread.currentThread().getContextClassLoader());
+                    result.scenario.record(System.nanoTime() - startNanos);
+                    if (status != 0) {
+                        result.failures++;
+                    }
+                } catch (RuntimeException e) {
+                    System.err.println("⚠️ " + configuration.name() + " failed: " + e.getMessage());
+                    result.failures++;
+                } finally {
+                    System.clearProperty("chrome.profile");
+                    System.clearProperty("chrome.profile.exclude");
+                }
+            }
+        }
+
+        String report = report(results);
+        Files.createDirectories(REPORT_FILE.getParent());
+        Files.writeString(REPORT_FILE, report, StandardCharsets.UTF_8);
+        System.out.println(report);
+        System.out.println("✓ Chrome flag benchmark written to " + REPORT_FILE);
+    }
+
+    private static long measureDriverStart() {
+        long startNanos = System.nanoTime();
+        WebDriver driver = DriverFactory.createDriver();
+        long elapsed = System.nanoTime() - startNanos;
+        driver.quit();
+        return elapsed;
+    }
+
+    private static String report(Map<String, Result> results) {
+        Result full = results.get(FULL);
+        double fullScenario = full == null || full.scenario.count() == 0 ? Double.NaN : full.scenario.percentileMillis(50);
+        StringBuilder report = new StringBuilder("configuration\truns\tfailures\tdriver start p50 ms\tscenario p50 ms\tscenario max ms\tcost of leaving out ms\n");
+        results.forEach((name, result) -> {
+            double scenario = result.scenario.count() == 0 ? Double.NaN : result.scenario.percentileMillis(50);
+            String cost = name.startsWith("without ") ? String.format(Locale.ROOT, "%+.0f", scenario - fullScenario) : "";
+            report.append(String.format(Locale.ROOT, "%s\t%d\t%d\t%.0f\t%.0f\t%.0f\t%s%n",
+                name, result.scenario.count(), result.failures,
+                result.start.count() == 0 ? Double.NaN : result.start.percentileMillis(50),
+                scenario, result.scenario.count() == 0 ? Double.NaN : result.scenario.maxMillis(), cost));
+        });
+        return report.toString();
+    }
+}
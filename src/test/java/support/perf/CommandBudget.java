@@ -0,0 +1,117 @@
+package support.perf;
+
+import java.util.Collection;
+import java.util.OptionalInt;
+import java.util.function.Supplier;
+
+/**
+ * Per-scenario and per-step WebDriver command budgets, declared with Cucumber tags
+ *
+ * - @budget-commands=N       at most N commands for the whole scenario
+ * - @budget-step-commands=N  at most N commands for any single step
+ *
+ * Commands are counted per thread by CommandCountingListener. Whether an exceeded budget
+ * fails the scenario or only prints a warning is set with -Dperf.budget.mode=fail|warn (default warn).
+ * -Dperf.budget.commands=N applies a scenario budget to scenarios without a tag.
+ */
+public final class CommandBudget {
+
+    public static final String SCENARIO_TAG = "@budget-commands=";
+    public static final String STEP_TAG = "@budget-step-commands=";
+
+    private static final ThreadLocal<int[]> COUNTS = ThreadLocal.withInitial(() -> new int[2]);
+    private static final ThreadLocal<Integer> SUSPENDED = ThreadLocal.withInitial(() -> 0);
+    private static final ThreadLocal<Boolean> EXCEEDED = ThreadLocal.withInitial(() -> false);
+    private static final int SCENARIO = 0;
+    private static final int STEP = 1;
+
+    private CommandBudget() {
+    }
+
+    /**
+     * Count one WebDriver round-trip on the current thread
+     */
+    static void count() {
+        if (SUSPENDED.get() == 0) {
+            int[] counts = COUNTS.get();
+            counts[SCENARIO]++;
+            counts[STEP]++;
+        }
+    }
+
+    /**
+     * Run framework-internal commands (e.g. metric collection) without charging them to the scenario
+     */
+    public static <T> T uncounted(Supplier<T> action) {
+        SUSPENDED.set(SUSPENDED.get() + 1);
+        try {
+            return action.get();
+        } finally {
+            SUSPENDED.set(SUSPENDED.get() - 1);
+        }
+    }
+
+    public static void startScenario() {
+        int[] counts = COUNTS.get();
+        counts[SCENARIO] = 0;
+        counts[STEP] = 0;
+        EXCEEDED.set(false);
+    }
+
+    public static void startStep() {
+        COUNTS.get()[STEP] = 0;
+    }
+
+    /**
+     * Record that the scenario went over one of its budgets, whether or not that fails it
+     */
+    public static void markExceeded() {
+        EXCEEDED.set(true);
+    }
+
+    public static boolean exceeded() {
+        return EXCEEDED.get();
+    }
+
+    public static int scenarioCount() {
+        return COUNTS.get()[SCENARIO];
+    }
+
+    public static int stepCount() {
+        return COUNTS.get()[STEP];
+    }
+
+    public static OptionalInt scenarioBudget(Collection<String> tags) {
+        OptionalInt tagged = fromTags(tags, SCENARIO_TAG);
+        if (tagged.isPresent()) {
+            return tagged;
+        }
+        Integer global = Integer.getInteger("perf.budget.commands");
+        return global == null ? OptionalInt.empty() : OptionalInt.of(global);
+    }
+
+    public static OptionalInt stepBudget(Collection<String> tags) {
+        return fromTags(tags, STEP_TAG);
+    }
+
+    public static boolean failOnExceeded() {
+        return "fail".equalsIgnoreCase(System.getProperty("perf.budget.mode", "warn"));
+    }
+
+    /**
+     * Cucumber lists feature tags before scenario tags, so the last match is the most specific one
+     */
+    private static OptionalInt fromTags(Collection<String> tags, String prefix) {
+        OptionalInt budget = OptionalInt.empty();
+        for (String tag : tags) {
+            if (tag.startsWith(prefix)) {
+                try {
+                    budget = OptionalInt.of(Integer.parseInt(tag.substring(prefix.length())));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid command budget tag: " + tag, e);
+                }
+            }
+        }
+        return budget;
+    }
+}
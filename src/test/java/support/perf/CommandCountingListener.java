@@ -0,0 +1,18 @@
+package support.perf;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+
+/**
+ * Selenium listener counting WebDriver round-trips for CommandBudget
+ */
+public class CommandCountingListener implements WebDriverListener {
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (CommandTimingListener.isRoundTrip(method.getName())) {
+            CommandBudget.count();
+        }
+    }
+}
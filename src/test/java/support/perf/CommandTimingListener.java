@@ -0,0 +1,61 @@
+package support.perf;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * Selenium listener timing every call made through the decorated driver and its elements
+ * (findElement, click, executeScript, get, ...), grouped by command name in TimingRegistry,
+ * and emitting a JFR event per command in profiling mode (see JfrProfiler)
+ */
+public class CommandTimingListener implements WebDriverListener {
+
+    // Local bookkeeping calls, not round-trips to the browser
+    private static final Set<String> IGNORED = Set.of("getWrappedDriver", "getWrappedElement", "toString", "hashCode", "equals",
+        "manage", "timeouts", "window", "navigate", "switchTo");
+
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * @return false for calls answered locally by the Selenium client
+     */
+    static boolean isRoundTrip(String method) {
+        return !IGNORED.contains(method);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isRoundTrip(method.getName())) {
+            startTimes.get().push(System.nanoTime());
+            JfrProfiler.commandStarted();
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(method.getName(), false);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        // afterAnyCall is skipped when the call throws, e.g. findElement polled by a WebDriverWait
+        record(method.getName(), true);
+    }
+
+    private void record(String method, boolean failed) {
+        if (!isRoundTrip(method)) {
+            return;
+        }
+        String command = failed ? method + " (error)" : method;
+        Long start = startTimes.get().poll();
+        JfrProfiler.commandFinished(command);
+        if (start != null) {
+            TimingRegistry.recordCommand(command, System.nanoTime() - start);
+        }
+    }
+}
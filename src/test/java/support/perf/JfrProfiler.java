@@ -0,0 +1,286 @@
+package support.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Profiling mode: a Java Flight Recorder recording of the test JVM (-Dperf.profile=true)
+ *
+ * Besides the JDK's own events (CPU samples, allocations, GC, socket I/O...), the recording holds one
+ * event per Cucumber step (StepTimingPlugin) and per WebDriver command (CommandTimingListener), so
+ * JDK Mission Control can show what the JVM was doing during a given step.
+ *
+ * On JVM exit the recording is written to target/perf/profile-&lt;timestamp&gt;.jfr and summarized in
+ * target/perf/profile-hotspots.txt: time in steps vs. waiting on WebDriver commands, CPU samples by
+ * library (Faker, JSON, XML, logging, Selenium HTTP client...) and the hottest methods.
+ *
+ * Options:
+ * - -Dperf.profile.settings=profile|default: JFR settings (default profile, about 20 ms between CPU samples)
+ * - -Dperf.top=N: rows per table (default 10)
+ *
+ * Summarize an existing recording:
+ *   mvn test-compile exec:java -Dexec.mainClass=support.perf.JfrProfiler -Dexec.classpathScope=test -Dexec.args=target/perf/profile-X.jfr
+ */
+public final class JfrProfiler {
+
+    public static final boolean ENABLED = Boolean.getBoolean("perf.profile");
+    public static final Path HOTSPOTS_FILE = TimingRegistry.PERF_DIR.resolve("profile-hotspots.txt");
+
+    // First matching prefix wins: a CPU sample is charged to its innermost frame outside the JDK
+    private static final Map<String, String> AREAS = new LinkedHashMap<>();
+
+    static {
+        AREAS.put("com.github.javafaker.", "Faker");
+        AREAS.put("org.yaml.snakeyaml.", "Faker (YAML)");
+        AREAS.put("org.json.", "JSON");
+        AREAS.put("org.w3c.", "XML");
+        AREAS.put("org.xml.", "XML");
+        AREAS.put("support.log.", "Test logging");
+        AREAS.put("org.openqa.selenium.remote.http.", "Selenium HTTP client");
+        AREAS.put("org.openqa.selenium.json.", "Selenium JSON");
+        AREAS.put("org.openqa.selenium.", "Selenium");
+        AREAS.put("org.htmlunit.", "HtmlUnit");
+        AREAS.put("io.cucumber.", "Cucumber");
+        AREAS.put("org.junit.", "JUnit");
+        AREAS.put("org.apache.maven.surefire.", "Surefire");
+        AREAS.put("support.", "Test support");
+        AREAS.put("pages.", "Page objects");
+        AREAS.put("stepdefinitions.", "Step definitions");
+    }
+
+    @Name("support.perf.CucumberStep")
+    @Label("Cucumber Step")
+    @Category("Selenium Tests")
+    public static final class StepEvent extends Event {
+        @Label("Step")
+        String step;
+
+        @Label("Status")
+        String status;
+    }
+
+    @Name("support.perf.WebDriverCommand")
+    @Label("WebDriver Command")
+    @Category("Selenium Tests")
+    public static final class CommandEvent extends Event {
+        @Label("Command")
+        String command;
+    }
+
+    private static final ThreadLocal<StepEvent> STEP = new ThreadLocal<>();
+    private static final ThreadLocal<Deque<CommandEvent>> COMMANDS = ThreadLocal.withInitial(ArrayDeque::new);
+    private static Recording recording;
+
+    private JfrProfiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: JfrProfiler <recording.jfr>");
+            System.exit(2);
+        }
+        String summary = summarize(Paths.get(args[0]));
+        Files.createDirectories(HOTSPOTS_FILE.getParent());
+        Files.writeString(HOTSPOTS_FILE, summary, StandardCharsets.UTF_8);
+        System.out.println(summary);
+    }
+
+    /**
+     * Start the recording if profiling is enabled; later calls do nothing
+     */
+    public static synchronized void start() {
+        if (!ENABLED || recording != null) {
+            return;
+        }
+        try {
+            recording = new Recording(Configuration.getConfiguration(System.getProperty("perf.profile.settings", "profile")));
+            recording.setName("selenium-tests");
+            recording.enable(StepEvent.class);
+            recording.enable(CommandEvent.class);
+            recording.setToDisk(true);
+            Path file = TimingRegistry.PERF_DIR.resolve("profile-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) + ".jfr");
+            Files.createDirectories(file.getParent());
+            recording.setDestination(file);
+            recording.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(JfrProfiler::stop, "jfr-profiler"));
+            System.out.println("✓ JFR profiling started, recording to " + file);
+        } catch (IOException | ParseException | RuntimeException e) {
+            recording = null;
+            System.err.println("⚠️ Could not start JFR profiling: " + e.getMessage());
+        }
+    }
+
+    public static void stepStarted(String step) {
+        if (ENABLED) {
+            StepEvent event = new StepEvent();
+            event.step = step;
+            event.begin();
+            STEP.set(event);
+        }
+    }
+
+    public static void stepFinished(String status) {
+        StepEvent event = ENABLED ? STEP.get() : null;
+        if (event != null) {
+            STEP.remove();
+            event.status = status;
+            event.commit();
+        }
+    }
+
+    public static void commandStarted() {
+        if (ENABLED) {
+            CommandEvent event = new CommandEvent();
+            event.begin();
+            COMMANDS.get().push(event);
+        }
+    }
+
+    public static void commandFinished(String command) {
+        CommandEvent event = ENABLED ? COMMANDS.get().poll() : null;
+        if (event != null) {
+            event.command = command;
+            event.commit();
+        }
+    }
+
+    private static synchronized void stop() {
+        if (recording == null) {
+            return;
+        }
+        try {
+            // Stopping writes the destination file; the JDK's own shutdown hook may have done it already
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            Path file = recording.getDestination();
+            String summary = summarize(file);
+            Files.writeString(HOTSPOTS_FILE, summary, StandardCharsets.UTF_8);
+            System.out.println("✓ JFR recording written to " + file + ", hotspots to " + HOTSPOTS_FILE);
+            System.out.println(summary);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("⚠️ Could not write the JFR recording: " + e.getMessage());
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * Top hotspots of a recording, as text
+     */
+    public static String summarize(Path file) throws IOException {
+        Duration stepTime = Duration.ZERO;
+        Duration commandTime = Duration.ZERO;
+        Map<String, Duration> steps = new HashMap<>();
+        Map<String, Duration> commands = new HashMap<>();
+        Map<String, Integer> areas = new HashMap<>();
+        Map<String, Integer> methods = new HashMap<>();
+        int samples = 0;
+
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            switch (event.getEventType().getName()) {
+                case "support.perf.CucumberStep" -> {
+                    stepTime = stepTime.plus(event.getDuration());
+                    steps.merge(event.getString("step"), event.getDuration(), Duration::plus);
+                }
+                case "support.perf.WebDriverCommand" -> {
+                    commandTime = commandTime.plus(event.getDuration());
+                    commands.merge(event.getString("command"), event.getDuration(), Duration::plus);
+                }
+                case "jdk.ExecutionSample" -> {
+                    RecordedStackTrace stackTrace = event.getStackTrace();
+                    if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+                        continue;
+                    }
+                    samples++;
+                    List<RecordedFrame> frames = stackTrace.getFrames();
+                    methods.merge(methodName(frames.get(0)), 1, Integer::sum);
+                    areas.merge(area(frames), 1, Integer::sum);
+                }
+                default -> {
+                }
+            }
+        }
+
+        int top = Integer.getInteger("perf.top", 10);
+        StringBuilder summary = new StringBuilder("JFR profile: ").append(file).append(System.lineSeparator());
+        summary.append(String.format(Locale.ROOT, "Steps: %.1f s, of which WebDriver commands (waiting on the browser): %.1f s (%.0f%%)%n",
+            seconds(stepTime), seconds(commandTime), stepTime.isZero() ? 0 : 100.0 * commandTime.toNanos() / stepTime.toNanos()));
+        summary.append("JVM CPU samples: ").append(samples).append(System.lineSeparator());
+        appendCounts(summary, "CPU samples by library", areas, samples, top);
+        appendCounts(summary, "Hottest methods (own time)", methods, samples, top);
+        appendDurations(summary, "Slowest steps (total)", steps, top);
+        appendDurations(summary, "Slowest WebDriver commands (total)", commands, top);
+        return summary.toString();
+    }
+
+    private static String area(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("java.") || type.startsWith("javax.") || type.startsWith("jdk.") || type.startsWith("sun.")
+                || type.startsWith("com.sun.")) {
+                continue;
+            }
+            for (Map.Entry<String, String> area : AREAS.entrySet()) {
+                if (type.startsWith(area.getKey())) {
+                    return area.getValue();
+                }
+            }
+            return type.contains(".") ? "Other: " + type.substring(0, type.lastIndexOf('.')) : "Other: " + type;
+        }
+        String top = frames.get(0).getMethod().getType().getName();
+        return top.startsWith("com.sun.org.apache.xerces") || top.startsWith("javax.xml") ? "XML" : "JDK";
+    }
+
+    private static String methodName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    private static void appendCounts(StringBuilder summary, String title, Map<String, Integer> counts, int total, int top) {
+        summary.append(System.lineSeparator()).append(title).append(':').append(System.lineSeparator());
+        counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .limit(top)
+            .forEach(entry -> summary.append(String.format(Locale.ROOT, "  %5.1f%%  %6d  %s%n",
+                100.0 * entry.getValue() / Math.max(1, total), entry.getValue(), entry.getKey())));
+    }
+
+    private static void appendDurations(StringBuilder summary, String title, Map<String, Duration> durations, int top) {
+        summary.append(System.lineSeparator()).append(title).append(':').append(System.lineSeparator());
+        durations.entrySet().stream()
+            .sorted(Map.Entry.<String, Duration>comparingByValue().reversed())
+            .limit(top)
+            .forEach(entry -> summary.append(String.format(Locale.ROOT, "  %8.2f s  %s%n", seconds(entry.getValue()), entry.getKey())));
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1e9;
+    }
+}
@@ -0,0 +1,113 @@
+package support.perf;
+
+import org.json.JSONObject;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets
+ *
+ * Each power of two of microseconds is split into {@value #SUB_BUCKETS} linear sub-buckets,
+ * so percentiles are accurate to about 12% from 1 µs up to ~2 hours, in a fixed 2 KB.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 8;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int MAGNITUDES = 31;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(MAGNITUDES * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator minNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketIndex(value / 1_000));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+        minNanos.accumulate(value);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public double totalMillis() {
+        return totalNanos.sum() / 1_000_000.0;
+    }
+
+    public double meanMillis() {
+        long samples = count();
+        return samples == 0 ? 0 : totalMillis() / samples;
+    }
+
+    public double maxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    public double minMillis() {
+        return count() == 0 ? 0 : minNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return upper bound of the bucket holding the requested rank, in milliseconds
+     */
+    public double percentileMillis(double percentile) {
+        long samples = count();
+        if (samples == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(samples * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBoundMicros(i) / 1_000.0, maxMillis());
+            }
+        }
+        return maxMillis();
+    }
+
+    public JSONObject toJson() {
+        return new JSONObject()
+            .put("count", count())
+            .put("totalMs", round(totalMillis()))
+            .put("minMs", round(minMillis()))
+            .put("meanMs", round(meanMillis()))
+            .put("p50Ms", round(percentileMillis(50)))
+            .put("p90Ms", round(percentileMillis(90)))
+            .put("p95Ms", round(percentileMillis(95)))
+            .put("p99Ms", round(percentileMillis(99)))
+            .put("maxMs", round(maxMillis()));
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+
+    private static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        // Keep the top four bits: the leading one selects the magnitude, the next three the sub-bucket
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> shift) & (SUB_BUCKETS - 1);
+        int index = (shift + 1) * SUB_BUCKETS + subBucket;
+        return Math.min(index, MAGNITUDES * SUB_BUCKETS - 1);
+    }
+
+    private static long bucketUpperBoundMicros(int index) {
+        int magnitude = index / SUB_BUCKETS;
+        int subBucket = index % SUB_BUCKETS;
+        if (magnitude == 0) {
+            return subBucket + 1;
+        }
+        return (long) (subBucket + SUB_BUCKETS + 1) << (magnitude - 1);
+    }
+}
@@ -0,0 +1,407 @@
+package support.perf;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import support.log.TestLog;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Network capture of each scenario through the DevTools Network domain, as HAR (-Dperf.har=true)
+ *
+ * An entry is written to target/perf/har/&lt;scenario name&gt;_&lt;correlation ID&gt;.har as soon as its request
+ * completes, so only the requests in flight are held in memory. When the scenario ends, the file is kept
+ * if the scenario failed or went over its command budget, and deleted otherwise. Either way each page
+ * visit is summarized (requests, bytes, slowest resources) in the test log and in target/perf/network-pages.jsonl.
+ *
+ * Response bodies are not captured. Options:
+ * - -Dperf.har.keep=all: keep the HAR of passing scenarios too
+ * - -Dperf.har.slowest=N: slowest resources listed per page visit (default 5)
+ */
+public final class NetworkCapture {
+
+    public static final Path HAR_DIR = TimingRegistry.PERF_DIR.resolve("har");
+    public static final Path PAGES_FILE = TimingRegistry.PERF_DIR.resolve("network-pages.jsonl");
+
+    private static final int SLOWEST = Integer.getInteger("perf.har.slowest", 5);
+    private static final boolean KEEP_ALL = "all".equalsIgnoreCase(System.getProperty("perf.har.keep"));
+    private static final ThreadLocal<NetworkCapture> CURRENT = new ThreadLocal<>();
+
+    private record Resource(String url, double millis) {
+    }
+
+    /**
+     * One page visit: a document request and everything requested until the next one
+     */
+    private static final class Page {
+        final String id;
+        final String url;
+        final String started;
+        int requests;
+        long bytes;
+        final PriorityQueue<Resource> slowest = new PriorityQueue<>(Comparator.comparingDouble(Resource::millis));
+
+        Page(String id, String url, String started) {
+            this.id = id;
+            this.url = url;
+            this.started = started;
+        }
+
+        void add(String resourceUrl, double millis, long resourceBytes) {
+            requests++;
+            bytes += Math.max(0, resourceBytes);
+            slowest.add(new Resource(resourceUrl, millis));
+            if (slowest.size() > SLOWEST) {
+                slowest.poll();
+            }
+        }
+
+        List<Resource> slowestFirst() {
+            List<Resource> resources = new ArrayList<>(slowest);
+            resources.sort(Comparator.comparingDouble(Resource::millis).reversed());
+            return resources;
+        }
+
+        JSONObject summary() {
+            JSONArray resources = new JSONArray();
+            slowestFirst().forEach(resource -> resources.put(new JSONObject().put("url", resource.url()).put("ms", Math.round(resource.millis()))));
+            return new JSONObject().put("url", url).put("requests", requests).put("bytes", bytes).put("slowest", resources);
+        }
+    }
+
+    /**
+     * A request in flight
+     */
+    private static final class Pending {
+        final JSONObject request;
+        final Page page;
+        JSONObject response;
+
+        Pending(JSONObject request, Page page) {
+            this.request = request;
+            this.page = page;
+        }
+    }
+
+    private final RemoteWebDriver driver;
+    private final Map<String, Pending> inFlight = new HashMap<>();
+    private final List<Page> pages = new ArrayList<>();
+    private BufferedWriter writer;
+    private Path file;
+    private String scenario;
+    private String correlationId;
+    private boolean firstEntry;
+
+    private NetworkCapture(RemoteWebDriver driver) {
+        this.driver = driver;
+    }
+
+    public static boolean enabled() {
+        return Boolean.getBoolean("perf.har");
+    }
+
+    /**
+     * Listen to the network events of a new Chrome session, which becomes the current one of this thread;
+     * the capture of the running scenario starts right away
+     */
+    public static void attach(WebDriver chrome) {
+        CURRENT.remove();
+        if (!enabled() || !(chrome instanceof HasDevTools hasDevTools) || !(chrome instanceof RemoteWebDriver remote)) {
+            return;
+        }
+        NetworkCapture capture = new NetworkCapture(remote);
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.addListener(event("Network.requestWillBeSent"), capture::onRequest);
+            devTools.addListener(event("Network.responseReceived"), capture::onResponse);
+            devTools.addListener(event("Network.loadingFinished"), capture::onFinished);
+            devTools.addListener(event("Network.loadingFailed"), capture::onFailed);
+            devTools.send(new Command<>("Network.enable", Map.of()));
+        } catch (WebDriverException e) {
+            TestLog.warn("⚠️ Network capture not available: " + e.getMessage());
+            return;
+        }
+        CURRENT.set(capture);
+        startScenario();
+    }
+
+    /**
+     * Start capturing into a new file for the scenario running on this thread (for a reused session)
+     */
+    public static void startScenario() {
+        NetworkCapture capture = CURRENT.get();
+        if (capture != null && TestLog.correlationId() != null) {
+            capture.begin(TestLog.scenarioName(), TestLog.correlationId());
+        }
+    }
+
+    /**
+     * Close the capture of this thread's scenario and summarize it
+     * @param keep keep the HAR file (failed or over-budget scenario)
+     * @return the HAR file if kept, otherwise null
+     */
+    public static Path endScenario(boolean keep) {
+        NetworkCapture capture = CURRENT.get();
+        if (capture == null) {
+            return null;
+        }
+        Path kept = capture.finish(keep || KEEP_ALL);
+        if (capture.driver.getSessionId() == null) {
+            CURRENT.remove();
+        }
+        return kept;
+    }
+
+    private static Event<JSONObject> event(String method) {
+        return new Event<>(method, NetworkCapture::read);
+    }
+
+    private static JSONObject read(JsonInput input) {
+        Map<String, Object> params = input.read(Json.MAP_TYPE);
+        return new JSONObject(params);
+    }
+
+    private synchronized void begin(String scenarioName, String id) {
+        if (writer != null) {
+            finish(false);
+        }
+        scenario = scenarioName;
+        correlationId = id;
+        file = HAR_DIR.resolve(TestLog.fileNamePrefix(scenarioName) + id + ".har.part");
+        firstEntry = true;
+        try {
+            Files.createDirectories(HAR_DIR);
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            writer.write("{\"log\":{\"version\":\"1.2\",\"creator\":{\"name\":\"selenium-and-cucumber-saucelabs_web\",\"version\":\"1.0\"},\"entries\":[");
+            writer.newLine();
+        } catch (IOException e) {
+            TestLog.warn("⚠️ Could not start the network capture: " + e.getMessage());
+            writer = null;
+        }
+    }
+
+    private synchronized Path finish(boolean keep) {
+        if (writer == null) {
+            return null;
+        }
+        Path kept = null;
+        try {
+            JSONArray harPages = new JSONArray();
+            for (Page page : pages) {
+                harPages.put(new JSONObject()
+                    .put("id", page.id)
+                    .put("title", page.url)
+                    .put("startedDateTime", page.started)
+                    .put("pageTimings", new JSONObject().put("onContentLoad", -1).put("onLoad", -1))
+                    .put("_summary", page.summary()));
+            }
+            writer.newLine();
+            writer.write("],\"pages\":" + harPages + "}}");
+            writer.close();
+            if (keep) {
+                kept = HAR_DIR.resolve(file.getFileName().toString().replace(".har.part", ".har"));
+                Files.move(file, kept, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.delete(file);
+            }
+        } catch (IOException e) {
+            TestLog.warn("⚠️ Could not write the network capture: " + e.getMessage());
+        }
+        summarize(kept);
+        writer = null;
+        pages.clear();
+        inFlight.clear();
+        return kept;
+    }
+
+    private void summarize(Path kept) {
+        StringBuilder lines = new StringBuilder();
+        for (Page page : pages) {
+            TestLog.info(String.format(Locale.ROOT, "Network: %s - %d requests, %d KB", page.url, page.requests, page.bytes / 1024));
+            for (Resource resource : page.slowestFirst()) {
+                TestLog.info(String.format(Locale.ROOT, "Network:   %6.0f ms  %s", resource.millis(), resource.url()));
+            }
+            lines.append(page.summary()
+                .put("timestamp", page.started)
+                .put("scenario", scenario == null ? JSONObject.NULL : scenario)
+                .put("correlationId", correlationId)
+                .put("harKept", kept != null))
+                .append(System.lineSeparator());
+        }
+        if (!inFlight.isEmpty()) {
+            TestLog.info("Network: " + inFlight.size() + " request(s) still in flight at the end of the scenario");
+        }
+        if (kept != null) {
+            TestLog.info("Network capture saved: " + kept);
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            synchronized (NetworkCapture.class) {
+                Files.createDirectories(PAGES_FILE.getParent());
+                Files.writeString(PAGES_FILE, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        } catch (IOException e) {
+            TestLog.warn("⚠️ Could not write the network summary: " + e.getMessage());
+        }
+    }
+
+    private synchronized void onRequest(JSONObject event) {
+        if (writer == null) {
+            return;
+        }
+        String requestId = event.getString("requestId");
+        JSONObject redirect = event.optJSONObject("redirectResponse");
+        if (redirect != null) {
+            Pending redirected = inFlight.remove(requestId);
+            if (redirected != null) {
+                write(redirected, redirect, event.getDouble("timestamp"), redirect.optLong("encodedDataLength", -1), null);
+            }
+        }
+        if ("Document".equals(event.optString("type")) && requestId.equals(event.optString("loaderId"))) {
+            pages.add(new Page("page_" + (pages.size() + 1), event.getJSONObject("request").getString("url"), wallTime(event)));
+        }
+        if (pages.isEmpty()) {
+            pages.add(new Page("page_1", event.optString("documentURL"), wallTime(event)));
+        }
+        inFlight.put(requestId, new Pending(event, pages.get(pages.size() - 1)));
+    }
+
+    private synchronized void onResponse(JSONObject event) {
+        Pending pending = inFlight.get(event.getString("requestId"));
+        if (pending != null) {
+            pending.response = event.getJSONObject("response");
+        }
+    }
+
+    private synchronized void onFinished(JSONObject event) {
+        Pending pending = inFlight.remove(event.getString("requestId"));
+        if (pending != null && writer != null) {
+            write(pending, pending.response, event.getDouble("timestamp"), event.optLong("encodedDataLength", -1), null);
+        }
+    }
+
+    private synchronized void onFailed(JSONObject event) {
+        Pending pending = inFlight.remove(event.getString("requestId"));
+        if (pending != null && writer != null) {
+            write(pending, pending.response, event.getDouble("timestamp"), 0, event.optString("errorText", "failed"));
+        }
+    }
+
+    private void write(Pending pending, JSONObject response, double endTimestamp, long bytes, String error) {
+        JSONObject request = pending.request.getJSONObject("request");
+        double millis = Math.max(0, (endTimestamp - pending.request.getDouble("timestamp")) * 1000);
+        String url = request.getString("url");
+        JSONObject harResponse = new JSONObject()
+            .put("status", response == null ? 0 : response.optInt("status"))
+            .put("statusText", response == null ? "" : response.optString("statusText"))
+            .put("httpVersion", response == null ? "" : response.optString("protocol"))
+            .put("cookies", new JSONArray())
+            .put("headers", headers(response == null ? null : response.optJSONObject("headers")))
+            .put("content", new JSONObject()
+                .put("size", bytes)
+                .put("mimeType", response == null ? "" : response.optString("mimeType")))
+            .put("redirectURL", "")
+            .put("headersSize", -1)
+            .put("bodySize", bytes);
+        if (error != null) {
+            harResponse.put("_error", error);
+        }
+        JSONObject entry = new JSONObject()
+            .put("pageref", pending.page.id)
+            .put("startedDateTime", wallTime(pending.request))
+            .put("time", millis)
+            .put("request", new JSONObject()
+                .put("method", request.optString("method"))
+                .put("url", url)
+                .put("httpVersion", response == null ? "" : response.optString("protocol"))
+                .put("cookies", new JSONArray())
+                .put("headers", headers(request.optJSONObject("headers")))
+                .put("queryString", new JSONArray())
+                .put("headersSize", -1)
+                .put("bodySize", request.has("postData") ? request.getString("postData").length() : 0))
+            .put("response", harResponse)
+            .put("cache", new JSONObject())
+            .put("timings", timings(response, millis))
+            .put("_resourceType", pending.request.optString("type"));
+        if (response != null && response.has("remoteIPAddress")) {
+            entry.put("serverIPAddress", response.getString("remoteIPAddress"));
+        }
+        try {
+            if (!firstEntry) {
+                writer.write(",");
+                writer.newLine();
+            }
+            writer.write(entry.toString());
+            firstEntry = false;
+        } catch (IOException e) {
+            TestLog.warn("⚠️ Could not write a network entry: " + e.getMessage());
+        }
+        pending.page.add(url, millis, bytes);
+    }
+
+    private static String wallTime(JSONObject requestEvent) {
+        return Instant.ofEpochMilli(Math.round(requestEvent.optDouble("wallTime", System.currentTimeMillis() / 1000.0) * 1000)).toString();
+    }
+
+    private static JSONArray headers(JSONObject headers) {
+        JSONArray har = new JSONArray();
+        if (headers != null) {
+            for (String name : headers.keySet()) {
+                har.put(new JSONObject().put("name", name).put("value", String.valueOf(headers.get(name))));
+            }
+        }
+        return har;
+    }
+
+    /**
+     * HAR timings from the CDP ResourceTiming offsets (milliseconds since the request started)
+     */
+    private static JSONObject timings(JSONObject response, double millis) {
+        JSONObject timing = response == null ? null : response.optJSONObject("timing");
+        if (timing == null) {
+            return new JSONObject().put("blocked", -1).put("dns", -1).put("connect", -1).put("ssl", -1)
+                .put("send", 0).put("wait", millis).put("receive", 0);
+        }
+        double dnsStart = timing.optDouble("dnsStart", -1);
+        double connectStart = timing.optDouble("connectStart", -1);
+        double sslStart = timing.optDouble("sslStart", -1);
+        double sendStart = timing.optDouble("sendStart", 0);
+        double sendEnd = timing.optDouble("sendEnd", sendStart);
+        double headersEnd = timing.optDouble("receiveHeadersEnd", sendEnd);
+        double firstStart = dnsStart >= 0 ? dnsStart : connectStart >= 0 ? connectStart : sendStart;
+        return new JSONObject()
+            .put("blocked", Math.max(0, firstStart))
+            .put("dns", dnsStart >= 0 ? timing.optDouble("dnsEnd") - dnsStart : -1)
+            .put("connect", connectStart >= 0 ? timing.optDouble("connectEnd") - connectStart : -1)
+            .put("ssl", sslStart >= 0 ? timing.optDouble("sslEnd") - sslStart : -1)
+            .put("send", Math.max(0, sendEnd - sendStart))
+            .put("wait", Math.max(0, headersEnd - sendEnd))
+            .put("receive", Math.max(0, millis - headersEnd));
+    }
+}
@@ -0,0 +1,123 @@
+package support.perf;
+
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates page performance budgets against the metrics collected by PagePerformance
+ *
+ * A page visited several times in one scenario (repeated logins, loops) yields several samples;
+ * the budget then applies to a percentile of them (nearest rank), by default
+ * -Dperf.assert.percentile (95). A single sample is compared as is.
+ */
+public final class PageMetricBudget {
+
+    public enum Metric {
+        LOAD_TIME("load time", "ms"),
+        TTFB("TTFB", "ms"),
+        FCP("FCP", "ms"),
+        LCP("LCP", "ms"),
+        INP("INP", "ms"),
+        CLS("CLS", "");
+
+        private final String label;
+        private final String unit;
+
+        Metric(String label, String unit) {
+            this.label = label;
+            this.unit = unit;
+        }
+
+        public static Metric fromLabel(String label) {
+            for (Metric metric : values()) {
+                if (metric.label.equalsIgnoreCase(label)) {
+                    return metric;
+                }
+            }
+            throw new IllegalArgumentException("Unknown page metric: " + label);
+        }
+
+        /**
+         * @return the metric's value in one PagePerformance sample, or null if it was not recorded
+         */
+        Double valueOf(JSONObject sample) {
+            JSONObject navigation = sample.optJSONObject("navigation");
+            return switch (this) {
+                case LOAD_TIME -> navigation != null ? optDouble(navigation, "loadMs") : optDouble(sample, "durationMs");
+                case TTFB -> navigation != null ? optDouble(navigation, "ttfbMs") : null;
+                case FCP -> optDouble(sample, "fcpMs");
+                case LCP -> optDouble(sample, "lcpMs");
+                case INP -> optDouble(sample, "inpMs");
+                case CLS -> optDouble(sample, "cls");
+            };
+        }
+
+        private static Double optDouble(JSONObject json, String key) {
+            return json.has(key) && !json.isNull(key) ? json.getDouble(key) : null;
+        }
+    }
+
+    public record Evaluation(boolean passed, String message) {
+    }
+
+    private PageMetricBudget() {
+    }
+
+    public static double defaultPercentile() {
+        return Double.parseDouble(System.getProperty("perf.assert.percentile", "95"));
+    }
+
+    /**
+     * @param metrics samples of the current scenario (PagePerformance.scenarioMetrics())
+     * @param page page name used when the samples were collected, e.g. "inventory"
+     * @param percentile between 0 and 100
+     * @param limit budget, in the metric's unit
+     */
+    public static Evaluation evaluate(List<JSONObject> metrics, String page, Metric metric, double percentile, double limit) {
+        List<Double> samples = new ArrayList<>();
+        for (JSONObject sample : metrics) {
+            if (page.equals(sample.optString("page"))) {
+                Double value = metric.valueOf(sample);
+                if (value != null) {
+                    samples.add(value);
+                }
+            }
+        }
+        if (samples.isEmpty()) {
+            String visited = metrics.stream().map(sample -> sample.optString("page")).distinct().collect(Collectors.joining(", "));
+            return new Evaluation(false, "No " + metric.label + " recorded for the " + page + " page in this scenario"
+                + " (pages measured: " + (visited.isEmpty() ? "none" : visited) + ")");
+        }
+        double actual = percentile(samples, percentile);
+        String summary = samples.size() == 1
+            ? String.format(Locale.ROOT, "%s of the %s page is %s", metric.label, page, format(actual, metric))
+            : String.format(Locale.ROOT, "p%s %s of the %s page is %s over %d samples %s", format(percentile), metric.label, page,
+                format(actual, metric), samples.size(), samples.stream().map(value -> format(value, metric)).toList());
+        boolean passed = actual <= limit;
+        return new Evaluation(passed, summary + (passed ? ", within " : ", over ") + "the budget of " + format(limit, metric));
+    }
+
+    /**
+     * Nearest-rank percentile
+     */
+    static double percentile(List<Double> samples, double percentile) {
+        List<Double> sorted = new ArrayList<>(samples);
+        sorted.sort(null);
+        int rank = (int) Math.ceil(sorted.size() * percentile / 100.0);
+        return sorted.get(Math.min(sorted.size(), Math.max(1, rank)) - 1);
+    }
+
+    private static String format(double value, Metric metric) {
+        return metric.unit.isEmpty()
+            ? String.format(Locale.ROOT, "%.3f", value)
+            : String.format(Locale.ROOT, "%.0f %s", value, metric.unit);
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+    }
+}
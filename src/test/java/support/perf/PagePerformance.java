@@ -0,0 +1,278 @@
+package support.perf;
+
+import org.json.JSONObject;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import support.log.TestLog;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Browser-side page performance metrics, collected by the page objects while the scenario runs
+ *
+ * - Full page loads (driver.get): Navigation Timing, first (contentful) paint, LCP, CLS, INP and resources
+ * - In-app transitions (SauceDemo is a single-page app): time from the click until the target page is
+ *   ready (see pages.PageReadiness), plus the layout shifts, slow interactions and resources recorded since the click
+ *
+ * Collection never waits for the load event, so the eager and none page load strategies keep their gain.
+ * A full page load collected before its load event is completed later, when the next metric is collected
+ * or the scenario's metrics are read; if the load event has still not happened, or the browser has left
+ * the page, the sample is marked "loadReached": false and has no load time, rather than a load time of 0.
+ *
+ * LCP, CLS and INP are read from buffered PerformanceObserver entries. Metrics of the current scenario
+ * are kept per thread; ScenarioHooks attaches them to the Cucumber report and appends them to
+ * target/perf/page-metrics.jsonl. Collection never fails a test, is skipped on HtmlUnit and is disabled
+ * with -Dperf.pages=false.
+ */
+public final class PagePerformance {
+
+    public static final Path METRICS_FILE = TimingRegistry.PERF_DIR.resolve("page-metrics.jsonl");
+
+    private static final ThreadLocal<List<JSONObject>> SCENARIO_METRICS = ThreadLocal.withInitial(ArrayList::new);
+    // Full page load collected before its load event, completed by the next collection on this thread
+    private static final ThreadLocal<PendingLoad> PENDING_LOAD = new ThreadLocal<>();
+
+    private record PendingLoad(WebDriver driver, JSONObject metrics, double timeOrigin) {
+    }
+
+    // Entries at or after arguments[0] (performance.now() of the transition start, 0 for a full page load)
+    private static final String COLLECT_SCRIPT = """
+        var since = arguments[0] || 0;
+        function observed(type) {
+          try {
+            var observer = new PerformanceObserver(function () {});
+            observer.observe({type: type, buffered: true});
+            var entries = observer.takeRecords();
+            observer.disconnect();
+            return entries.filter(function (e) { return e.startTime >= since; });
+          } catch (e) {
+            return [];
+          }
+        }
+        var result = {};
+        if (!since) {
+          var nav = performance.getEntriesByType('navigation')[0];
+          result.timeOrigin = performance.timeOrigin;
+          if (nav) {
+            result.navigation = {
+              ttfbMs: nav.responseStart - nav.startTime,
+              domInteractiveMs: nav.domInteractive,
+              domContentLoadedMs: nav.domContentLoadedEventEnd,
+              loadMs: nav.loadEventEnd || null,
+              transferBytes: nav.transferSize
+            };
+          }
+          performance.getEntriesByType('paint').forEach(function (p) {
+            result[p.name === 'first-contentful-paint' ? 'fcpMs' : 'fpMs'] = p.startTime;
+          });
+          var lcp = observed('largest-contentful-paint');
+          if (lcp.length) { result.lcpMs = lcp[lcp.length - 1].startTime; }
+        }
+        var cls = 0;
+        observed('layout-shift').forEach(function (s) { if (!s.hadRecentInput) { cls += s.value; } });
+        result.cls = cls;
+        var inp = 0;
+        observed('event').forEach(function (e) { if (e.interactionId) { inp = Math.max(inp, e.duration); } });
+        if (inp) { result.inpMs = inp; }
+        var resources = {count: 0, transferBytes: 0, slowestMs: 0, slowest: null, byType: {}};
+        performance.getEntriesByType('resource').forEach(function (r) {
+          if (r.startTime < since) { return; }
+          resources.count++;
+          resources.transferBytes += r.transferSize || 0;
+          resources.byType[r.initiatorType] = (resources.byType[r.initiatorType] || 0) + 1;
+          if (r.duration > resources.slowestMs) { resources.slowestMs = r.duration; resources.slowest = r.name; }
+        });
+        result.resources = resources;
+        return JSON.stringify(result);
+        """;
+
+    // Load event and LCP of the current document, with its time origin to tell it from a newer page
+    private static final String LOAD_SCRIPT = """
+        var nav = performance.getEntriesByType('navigation')[0];
+        var result = {timeOrigin: performance.timeOrigin, loadMs: nav ? nav.loadEventEnd : 0};
+        try {
+          var observer = new PerformanceObserver(function () {});
+          observer.observe({type: 'largest-contentful-paint', buffered: true});
+          var lcp = observer.takeRecords();
+          observer.disconnect();
+          if (lcp.length) { result.lcpMs = lcp[lcp.length - 1].startTime; }
+        } catch (e) {
+        }
+        return JSON.stringify(result);
+        """;
+
+    private PagePerformance() {
+    }
+
+    /**
+     * Collect the metrics of a page just loaded with driver.get
+     * @param page short page name, e.g. "login"
+     */
+    public static void captureNavigation(WebDriver driver, String page) {
+        if (!enabled() || !isRealBrowser(driver)) {
+            return;
+        }
+        CommandBudget.uncounted(() -> {
+            completePendingLoad();
+            try {
+                JSONObject metrics = collect(driver, 0);
+                double timeOrigin = metrics.optDouble("timeOrigin", 0);
+                metrics.remove("timeOrigin");
+                store(page, "navigation", metrics);
+                JSONObject navigation = metrics.optJSONObject("navigation");
+                if (navigation != null && navigation.isNull("loadMs")) {
+                    PENDING_LOAD.set(new PendingLoad(driver, metrics, timeOrigin));
+                }
+            } catch (WebDriverException e) {
+                TestLog.warn("⚠️ Could not collect page metrics for " + page + ": " + e.getMessage());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Perform an in-app navigation, wait until the target page is ready and measure it
+     * @param page short name of the target page, e.g. "cart"
+     * @param arrived end of the transition, e.g. PageReadiness.arrivedAt("cart.html", cartPage)
+     * @param action the click (or other action) starting the transition
+     */
+    public static void measureTransition(WebDriver driver, String page, ExpectedCondition<?> arrived, Runnable action) {
+        if (!enabled() || !isRealBrowser(driver)) {
+            action.run();
+            CommandBudget.uncounted(() -> transitionWait(driver).until(arrived));
+            return;
+        }
+        Double since = CommandBudget.uncounted(() -> {
+            completePendingLoad();
+            return now(driver);
+        });
+        long start = System.nanoTime();
+        action.run();
+        CommandBudget.uncounted(() -> {
+            transitionWait(driver).until(arrived);
+            try {
+                double durationMs = (System.nanoTime() - start) / 1_000_000.0;
+                JSONObject metrics = collect(driver, since == null ? 0 : since);
+                metrics.put("durationMs", durationMs);
+                store(page, "transition", metrics);
+            } catch (WebDriverException e) {
+                TestLog.warn("⚠️ Could not collect page metrics for " + page + ": " + e.getMessage());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Forget the metrics of the previous scenario on this thread
+     */
+    public static void startScenario() {
+        SCENARIO_METRICS.get().clear();
+        PENDING_LOAD.remove();
+    }
+
+    /**
+     * Completes a full page load still waiting for its load event; call while the browser is open
+     * @return metrics collected so far in the current scenario, in collection order
+     */
+    public static List<JSONObject> scenarioMetrics() {
+        CommandBudget.uncounted(() -> {
+            completePendingLoad();
+            return null;
+        });
+        return List.copyOf(SCENARIO_METRICS.get());
+    }
+
+    /**
+     * Append the current scenario's metrics to {@link #METRICS_FILE}, one JSON object per line
+     */
+    public static void appendToTimeSeries(String scenarioName) throws IOException {
+        List<JSONObject> metrics = SCENARIO_METRICS.get();
+        if (metrics.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (JSONObject entry : metrics) {
+            lines.append(new JSONObject(entry.toMap()).put("scenario", scenarioName)).append(System.lineSeparator());
+        }
+        synchronized (PagePerformance.class) {
+            Files.createDirectories(METRICS_FILE.getParent());
+            Files.writeString(METRICS_FILE, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+
+    public static boolean enabled() {
+        return Boolean.parseBoolean(System.getProperty("perf.pages", "true"));
+    }
+
+    /**
+     * HtmlUnit (browserless scenarios) neither renders nor implements the paint and layout APIs
+     */
+    private static boolean isRealBrowser(WebDriver driver) {
+        return !(driver instanceof HasCapabilities hasCapabilities)
+            || !"htmlunit".equalsIgnoreCase(CommandBudget.uncounted(() -> hasCapabilities.getCapabilities().getBrowserName()));
+    }
+
+    private static WebDriverWait transitionWait(WebDriver driver) {
+        return new WebDriverWait(driver, Duration.ofSeconds(15), Duration.ofMillis(100));
+    }
+
+    /**
+     * Fill in the load time (and LCP) of a full page load collected before its load event,
+     * if the browser is still on that document and the event has happened since
+     */
+    private static void completePendingLoad() {
+        PendingLoad pending = PENDING_LOAD.get();
+        if (pending == null) {
+            return;
+        }
+        PENDING_LOAD.remove();
+        JSONObject navigation = pending.metrics().getJSONObject("navigation");
+        try {
+            JSONObject load = new JSONObject(String.valueOf(((JavascriptExecutor) pending.driver()).executeScript(LOAD_SCRIPT)));
+            if (load.optDouble("timeOrigin", -1) == pending.timeOrigin() && load.optDouble("loadMs", 0) > 0) {
+                navigation.put("loadMs", load.getDouble("loadMs"));
+                if (!pending.metrics().has("lcpMs") && load.has("lcpMs")) {
+                    pending.metrics().put("lcpMs", load.getDouble("lcpMs"));
+                }
+                return;
+            }
+        } catch (WebDriverException e) {
+            // Browser already closed: the load event was not seen
+        }
+        navigation.put("loadReached", false);
+        TestLog.info("Load event of the " + pending.metrics().optString("page") + " page not reached, load time not recorded");
+    }
+
+    private static Double now(WebDriver driver) {
+        try {
+            Object value = ((JavascriptExecutor) driver).executeScript("return performance.now();");
+            return value instanceof Number number ? number.doubleValue() : null;
+        } catch (WebDriverException e) {
+            return null;
+        }
+    }
+
+    private static JSONObject collect(WebDriver driver, double since) {
+        Object json = ((JavascriptExecutor) driver).executeScript(COLLECT_SCRIPT, since);
+        return new JSONObject(String.valueOf(json));
+    }
+
+    private static void store(String page, String type, JSONObject metrics) {
+        metrics.put("timestamp", Instant.now().toString());
+        metrics.put("page", page);
+        metrics.put("type", type);
+        SCENARIO_METRICS.get().add(metrics);
+    }
+}
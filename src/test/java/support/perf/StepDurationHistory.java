@@ -0,0 +1,118 @@
+package support.perf;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+/**
+ * Per-step durations across runs, kept in test-history/step-durations.json
+ *
+ * Each step text keeps the median duration of its last runs (up to 10), and its historical median is
+ * the median of those, so a single slow run does not move it. Written once per test JVM, on exit,
+ * and read by StepTracer.
+ */
+public final class StepDurationHistory {
+
+    public static final Path DEFAULT_FILE = Paths.get("test-history", "step-durations.json");
+
+    private static final int RUNS_KEPT = 10;
+    private static final Object FILE_LOCK = new Object();
+
+    private final Map<String, List<Long>> runMedians;
+
+    private StepDurationHistory(Map<String, List<Long>> runMedians) {
+        this.runMedians = runMedians;
+    }
+
+    /**
+     * @return -Dperf.trace.history if set, otherwise {@link #DEFAULT_FILE}
+     */
+    public static Path file() {
+        String file = System.getProperty("perf.trace.history");
+        return file == null || file.isBlank() ? DEFAULT_FILE : Paths.get(file);
+    }
+
+    /**
+     * @return the history, empty if the file does not exist or cannot be read
+     */
+    public static StepDurationHistory load(Path file) {
+        Map<String, List<Long>> runMedians = new TreeMap<>();
+        if (Files.exists(file)) {
+            try {
+                JSONObject steps = new JSONObject(Files.readString(file, StandardCharsets.UTF_8)).getJSONObject("steps");
+                for (String step : steps.keySet()) {
+                    JSONArray medians = steps.getJSONObject(step).getJSONArray("runMediansMs");
+                    List<Long> values = new ArrayList<>();
+                    for (int i = 0; i < medians.length(); i++) {
+                        values.add(medians.getLong(i));
+                    }
+                    runMedians.put(step, values);
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("⚠️ Ignoring unreadable step history " + file + ": " + e.getMessage());
+            }
+        }
+        return new StepDurationHistory(runMedians);
+    }
+
+    /**
+     * Add the durations of one run to the history file
+     * @param durations durations in ms per step text
+     */
+    public static void update(Path file, Map<String, ? extends Collection<Long>> durations) throws IOException {
+        synchronized (FILE_LOCK) {
+            StepDurationHistory history = load(file);
+            durations.forEach((step, values) -> {
+                if (!values.isEmpty()) {
+                    List<Long> medians = history.runMedians.computeIfAbsent(step, key -> new ArrayList<>());
+                    medians.add(median(values));
+                    if (medians.size() > RUNS_KEPT) {
+                        medians.subList(0, medians.size() - RUNS_KEPT).clear();
+                    }
+                }
+            });
+            history.save(file);
+        }
+    }
+
+    /**
+     * @return the historical median of the step in ms, if it ran before
+     */
+    public OptionalLong medianMs(String step) {
+        List<Long> medians = runMedians.get(step);
+        return medians == null || medians.isEmpty() ? OptionalLong.empty() : OptionalLong.of(median(medians));
+    }
+
+    static long median(Collection<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get((sorted.size() - 1) / 2);
+    }
+
+    private void save(Path file) throws IOException {
+        JSONObject steps = new JSONObject();
+        runMedians.forEach((step, medians) -> steps.put(step, new JSONObject()
+            .put("medianMs", median(medians))
+            .put("runMediansMs", new JSONArray(medians))));
+        JSONObject json = new JSONObject().put("updatedAt", Instant.now().toString()).put("steps", steps);
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = parent.resolve(file.getFileName() + ".tmp");
+        Files.writeString(temp, json.toString(2), StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
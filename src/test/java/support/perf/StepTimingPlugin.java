@@ -0,0 +1,63 @@
+package support.perf;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+import java.io.IOException;
+
+/**
+ * Cucumber plugin recording the duration of every step and hook in TimingRegistry
+ *
+ * At the end of each run the histograms are written to target/perf/timings.json and
+ * the slowest steps are printed (-Dperf.top=N, default 10).
+ * In profiling mode (-Dperf.profile=true) every step is also a JFR event, see JfrProfiler.
+ * Step durations are added to test-history/step-durations.json, and steps far slower than
+ * their median there get a Chrome performance trace, see StepTracer.
+ */
+public class StepTimingPlugin implements ConcurrentEventListener {
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepStarted.class, this::onStepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> report());
+    }
+
+    private void onStepStarted(TestStepStarted event) {
+        if (event.getTestStep() instanceof PickleStepTestStep step) {
+            JfrProfiler.stepStarted(stepName(step));
+            StepTracer.stepStarted(stepName(step));
+        } else if (event.getTestStep() instanceof HookTestStep hook) {
+            JfrProfiler.stepStarted("[" + hook.getHookType() + "] " + hook.getCodeLocation());
+        }
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        JfrProfiler.stepFinished(event.getResult().getStatus().name());
+        long nanos = event.getResult().getDuration().toNanos();
+        if (event.getTestStep() instanceof PickleStepTestStep step) {
+            TimingRegistry.recordStep(stepName(step), nanos);
+            StepTracer.stepFinished(stepName(step), nanos);
+        } else if (event.getTestStep() instanceof HookTestStep hook) {
+            TimingRegistry.recordStep("[" + hook.getHookType() + "] " + hook.getCodeLocation(), nanos);
+        }
+    }
+
+    private static String stepName(PickleStepTestStep step) {
+        return step.getStep().getKeyword() + step.getStep().getText();
+    }
+
+    private void report() {
+        try {
+            System.out.println("✓ Step and command timings written to " + TimingRegistry.write());
+            System.out.println(TimingRegistry.summary(Integer.getInteger("perf.top", 10)));
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not write step timings: " + e.getMessage());
+        }
+    }
+}
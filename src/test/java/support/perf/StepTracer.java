@@ -0,0 +1,272 @@
+package support.perf;
+
+import org.json.JSONObject;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import support.log.TestLog;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Chrome performance trace (DevTools Tracing domain) of abnormally slow steps
+ *
+ * A step is slow when it takes more than -Dperf.trace.factor times (default 3) its historical median
+ * (see StepDurationHistory) and at least -Dperf.trace.min.ms (default 1000) more than it. The rest of
+ * the scenario is then traced, and so is the next run of that step: the retry of the scenario, or the
+ * next scenario using it. Steps without history use the median of the current run once they ran 5 times.
+ *
+ * Traces are written gzip-compressed to target/perf/traces/&lt;scenario name&gt;_&lt;correlation ID&gt;_&lt;step&gt;.json.gz
+ * (load them in the Performance panel of Chrome DevTools) and attached to the Jira issue of a failed scenario.
+ *
+ * Options:
+ * - -Dperf.trace=false: never trace
+ * - -Dperf.trace.categories: comma-separated trace categories, "-name" to exclude (default: those of the DevTools Performance panel)
+ */
+public final class StepTracer {
+
+    public static final Path TRACE_DIR = TimingRegistry.PERF_DIR.resolve("traces");
+
+    private static final double FACTOR = Double.parseDouble(System.getProperty("perf.trace.factor", "3"));
+    private static final long MIN_EXTRA_MS = Long.getLong("perf.trace.min.ms", 1000);
+    private static final int RUN_SAMPLES = 5;
+    private static final long TIMEOUT_SECONDS = Long.getLong("perf.trace.timeout", 30);
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    private static final String CATEGORIES = System.getProperty("perf.trace.categories",
+        "-*,devtools.timeline,v8.execute,disabled-by-default-devtools.timeline,disabled-by-default-devtools.timeline.frame,"
+            + "toplevel,blink.console,blink.user_timing,latencyInfo,disabled-by-default-devtools.timeline.stack,"
+            + "disabled-by-default-v8.cpu_profiler");
+
+    private static final StepDurationHistory HISTORY = StepDurationHistory.load(StepDurationHistory.file());
+    // Durations of this run (ms) not yet added to the history
+    private static final Map<String, List<Long>> RUN = new ConcurrentHashMap<>();
+    private static final Set<String> TRACE_NEXT = ConcurrentHashMap.newKeySet();
+    private static final ThreadLocal<StepTracer> CURRENT = new ThreadLocal<>();
+
+    static {
+        // Once per JVM: the retry pass finishes a second Cucumber run, which must not count as a run of its own
+        Runtime.getRuntime().addShutdownHook(new Thread(StepTracer::saveHistory, "step-history"));
+    }
+
+    private final HasDevTools chrome;
+    private final RemoteWebDriver session;
+    private final List<Path> saved = new ArrayList<>();
+    private DevTools devTools;
+    private volatile CompletableFuture<JSONObject> complete;
+    private String tracedStep;
+    private boolean stepOnly;
+
+    private StepTracer(HasDevTools chrome, RemoteWebDriver session) {
+        this.chrome = chrome;
+        this.session = session;
+    }
+
+    public static boolean enabled() {
+        return Boolean.parseBoolean(System.getProperty("perf.trace", "true"));
+    }
+
+    /**
+     * Make a new Chrome session the one traced on this thread; nothing is sent to it until a step is slow
+     */
+    public static void attach(WebDriver chrome) {
+        CURRENT.remove();
+        if (enabled() && chrome instanceof HasDevTools hasDevTools && chrome instanceof RemoteWebDriver remote) {
+            CURRENT.set(new StepTracer(hasDevTools, remote));
+        }
+    }
+
+    /**
+     * Trace this step if it was slow in an earlier scenario
+     */
+    public static void stepStarted(String step) {
+        StepTracer tracer = CURRENT.get();
+        if (tracer != null && TRACE_NEXT.remove(step) && tracer.tracedStep == null) {
+            tracer.start(step, true);
+        }
+    }
+
+    /**
+     * Record the step duration and start tracing if the step was slow
+     */
+    public static void stepFinished(String step, long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        OptionalLong median = medianMs(step);
+        RUN.computeIfAbsent(step, key -> Collections.synchronizedList(new ArrayList<>())).add(millis);
+
+        StepTracer tracer = CURRENT.get();
+        if (tracer != null && tracer.stepOnly && step.equals(tracer.tracedStep)) {
+            tracer.stop();
+        }
+        if (!enabled() || median.isEmpty() || millis <= FACTOR * median.getAsLong() || millis - median.getAsLong() < MIN_EXTRA_MS) {
+            return;
+        }
+        TestLog.warn(String.format("⚠️ Slow step: '%s' took %d ms, median %d ms", step, millis, median.getAsLong()));
+        TRACE_NEXT.add(step);
+        if (tracer != null && tracer.tracedStep == null) {
+            tracer.start(step, false);
+        }
+    }
+
+    /**
+     * Stop the trace of this thread's scenario, while its browser is still open
+     * @return the traces written during the scenario
+     */
+    public static List<Path> endScenario() {
+        StepTracer tracer = CURRENT.get();
+        if (tracer == null) {
+            return List.of();
+        }
+        tracer.stop();
+        List<Path> traces = List.copyOf(tracer.saved);
+        tracer.saved.clear();
+        if (tracer.session.getSessionId() == null) {
+            CURRENT.remove();
+        }
+        return traces;
+    }
+
+    /**
+     * Add the step durations of this JVM to the history file, as one run
+     */
+    private static void saveHistory() {
+        if (RUN.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, List<Long>> durations = new ConcurrentHashMap<>();
+            RUN.forEach((step, values) -> durations.put(step, new ArrayList<>(values)));
+            RUN.clear();
+            StepDurationHistory.update(StepDurationHistory.file(), durations);
+            System.out.println("✓ Step duration history updated for " + durations.size() + " step(s)");
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not update the step duration history: " + e.getMessage());
+        }
+    }
+
+    private static OptionalLong medianMs(String step) {
+        OptionalLong historical = HISTORY.medianMs(step);
+        if (historical.isPresent()) {
+            return historical;
+        }
+        List<Long> run = RUN.get(step);
+        if (run == null || run.size() < RUN_SAMPLES) {
+            return OptionalLong.empty();
+        }
+        synchronized (run) {
+            return OptionalLong.of(StepDurationHistory.median(run));
+        }
+    }
+
+    private void start(String step, boolean onlyThisStep) {
+        if (session.getSessionId() == null) {
+            return;
+        }
+        try {
+            if (devTools == null) {
+                devTools = chrome.getDevTools();
+                devTools.createSessionIfThereIsNotOne();
+                devTools.addListener(new Event<>("Tracing.tracingComplete", StepTracer::read), event -> {
+                    CompletableFuture<JSONObject> pending = complete;
+                    if (pending != null) {
+                        pending.complete(event);
+                    }
+                });
+            }
+            List<String> included = new ArrayList<>();
+            List<String> excluded = new ArrayList<>();
+            for (String category : CATEGORIES.split(",")) {
+                if (category.startsWith("-")) {
+                    excluded.add(category.substring(1).trim());
+                } else if (!category.isBlank()) {
+                    included.add(category.trim());
+                }
+            }
+            devTools.send(new Command<>("Tracing.start", Map.of(
+                "transferMode", "ReturnAsStream",
+                "streamCompression", "gzip",
+                "traceConfig", Map.of("includedCategories", included, "excludedCategories", excluded))));
+            tracedStep = step;
+            stepOnly = onlyThisStep;
+            TestLog.info(onlyThisStep ? "Tracing step '" + step + "'" : "Tracing the rest of the scenario after '" + step + "'");
+        } catch (WebDriverException e) {
+            TestLog.warn("⚠️ Could not start the performance trace: " + e.getMessage());
+        }
+    }
+
+    private void stop() {
+        if (tracedStep == null) {
+            return;
+        }
+        String step = tracedStep;
+        tracedStep = null;
+        String scenario = TestLog.scenarioName() == null ? "trace" : TestLog.scenarioName();
+        String correlationId = TestLog.correlationId() == null ? Long.toString(System.currentTimeMillis()) : TestLog.correlationId();
+        String stepName = step.replaceAll("[^a-zA-Z0-9._-]", "_");
+        Path file = TRACE_DIR.resolve(TestLog.fileNamePrefix(scenario) + correlationId + "_"
+            + stepName.substring(0, Math.min(60, stepName.length())) + ".json.gz");
+        try {
+            CompletableFuture<JSONObject> done = new CompletableFuture<>();
+            complete = done;
+            devTools.send(new Command<>("Tracing.end", Map.of()));
+            JSONObject event = done.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            Files.createDirectories(TRACE_DIR);
+            write(event.getString("stream"), "gzip".equals(event.optString("streamCompression")), file);
+            saved.add(file);
+            TestLog.info("Performance trace saved: " + file);
+        } catch (WebDriverException | ExecutionException | TimeoutException | IOException e) {
+            TestLog.warn("⚠️ Could not save the performance trace: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            complete = null;
+        }
+    }
+
+    /**
+     * Copy a trace stream to a gzip file, compressing it here if Chrome did not
+     */
+    private void write(String handle, boolean compressed, Path file) throws IOException {
+        try (OutputStream output = compressed
+            ? new BufferedOutputStream(Files.newOutputStream(file))
+            : new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            boolean eof = false;
+            while (!eof) {
+                JSONObject chunk = devTools.send(new Command<>("IO.read", Map.of("handle", handle, "size", CHUNK_SIZE), StepTracer::read));
+                String data = chunk.optString("data");
+                output.write(chunk.optBoolean("base64Encoded") ? Base64.getDecoder().decode(data) : data.getBytes(StandardCharsets.UTF_8));
+                eof = chunk.optBoolean("eof", true);
+            }
+        } finally {
+            devTools.send(new Command<>("IO.close", Map.of("handle", handle)));
+        }
+    }
+
+    private static JSONObject read(JsonInput input) {
+        Map<String, Object> params = input.read(Json.MAP_TYPE);
+        return new JSONObject(params);
+    }
+}
@@ -0,0 +1,84 @@
+package support.perf;
+
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JVM-wide latency histograms per Cucumber step and per WebDriver command
+ * Filled by StepTimingPlugin and CommandTimingListener, written to target/perf/timings.json
+ */
+public final class TimingRegistry {
+
+    public static final Path PERF_DIR = Paths.get("target", "perf");
+    private static final Path TIMINGS_FILE = PERF_DIR.resolve("timings.json");
+
+    private static final Map<String, LatencyHistogram> STEPS = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> COMMANDS = new ConcurrentHashMap<>();
+
+    private TimingRegistry() {
+    }
+
+    public static void recordStep(String stepText, long nanos) {
+        STEPS.computeIfAbsent(stepText, key -> new LatencyHistogram()).record(nanos);
+    }
+
+    public static void recordCommand(String command, long nanos) {
+        COMMANDS.computeIfAbsent(command, key -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Write every histogram as JSON
+     * @return path of the written file
+     */
+    public static Path write() throws IOException {
+        JSONObject json = new JSONObject();
+        json.put("generatedAt", Instant.now().toString());
+        json.put("steps", toJson(STEPS));
+        json.put("commands", toJson(COMMANDS));
+        Files.createDirectories(PERF_DIR);
+        Files.writeString(TIMINGS_FILE, json.toString(2), StandardCharsets.UTF_8);
+        return TIMINGS_FILE.toAbsolutePath();
+    }
+
+    /**
+     * Human readable table of the slowest steps (by p95) and the command totals
+     */
+    public static String summary(int topSteps) {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format(Locale.ROOT, "%n%-70s %6s %10s %10s %10s%n", "Slowest steps (p95)", "count", "mean ms", "p95 ms", "max ms"));
+        appendRows(summary, STEPS, topSteps);
+        summary.append(String.format(Locale.ROOT, "%n%-70s %6s %10s %10s %10s%n", "WebDriver commands", "count", "mean ms", "p95 ms", "max ms"));
+        appendRows(summary, COMMANDS, Integer.MAX_VALUE);
+        return summary.toString();
+    }
+
+    private static void appendRows(StringBuilder summary, Map<String, LatencyHistogram> histograms, int limit) {
+        List<Map.Entry<String, LatencyHistogram>> rows = new ArrayList<>(histograms.entrySet());
+        rows.sort(Comparator.comparingDouble((Map.Entry<String, LatencyHistogram> row) -> row.getValue().percentileMillis(95)).reversed());
+        for (Map.Entry<String, LatencyHistogram> row : rows.subList(0, Math.min(limit, rows.size()))) {
+            LatencyHistogram histogram = row.getValue();
+            String name = row.getKey().length() > 70 ? row.getKey().substring(0, 67) + "..." : row.getKey();
+            summary.append(String.format(Locale.ROOT, "%-70s %6d %10.1f %10.1f %10.1f%n",
+                name, histogram.count(), histogram.meanMillis(), histogram.percentileMillis(95), histogram.maxMillis()));
+        }
+    }
+
+    private static JSONObject toJson(Map<String, LatencyHistogram> histograms) {
+        JSONObject json = new JSONObject();
+        new TreeMap<>(histograms).forEach((name, histogram) -> json.put(name, histogram.toJson()));
+        return json;
+    }
+}
@@ -0,0 +1,234 @@
+package support.schedule;
+
+import io.cucumber.cucumberexpressions.Expression;
+import io.cucumber.cucumberexpressions.ExpressionFactory;
+import io.cucumber.cucumberexpressions.ParameterType;
+import io.cucumber.cucumberexpressions.ParameterTypeRegistry;
+import io.cucumber.cucumberexpressions.Transformer;
+import io.cucumber.cucumberexpressions.UndefinedParameterTypeException;
+import io.cucumber.tagexpressions.TagExpressionParser;
+import support.schedule.ScenarioCatalog.ScenarioRef;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Which scenarios a git diff can affect
+ *
+ * - A changed feature file: all of its scenarios
+ * - A changed step definition file: the scenarios using one of its steps, or matching one of its tagged hooks
+ * - A changed page object: the scenarios using a step whose method references that page
+ * - Any other change to the test sources (support, runner) or to pom.xml: every scenario
+ *
+ * Steps are matched the way Cucumber does it, with the cucumber-expressions library; the step
+ * definition files are read as source, so the analysis needs no compilation.
+ */
+final class ChangeImpact {
+
+    private static final Path TEST_SOURCES = Paths.get("src", "test", "java");
+    private static final Path GLUE_DIR = TEST_SOURCES.resolve("stepdefinitions");
+    private static final Path PAGES_DIR = TEST_SOURCES.resolve("pages");
+
+    private static final Pattern STEP = Pattern.compile("@(?:Given|When|Then|And|But)\\(\\s*\"((?:[^\"\\\\]|\\\\.)*)\"\\s*\\)");
+    private static final Pattern HOOK = Pattern.compile("@(?:Before|After|BeforeStep|AfterStep)(?:\\(([^)]*)\\))?\\s");
+    private static final Pattern HOOK_TAGS = Pattern.compile("\"((?:[^\"\\\\]|\\\\.)*)\"");
+    private static final Pattern PARAMETER_TYPE = Pattern.compile("@ParameterType\\(\\s*\"((?:[^\"\\\\]|\\\\.)*)\"\\s*\\)\\s*public\\s+[\\w.<>]+\\s+(\\w+)\\s*\\(");
+    private static final Pattern ANNOTATION = Pattern.compile("@(?:Given|When|Then|And|But|Before|After|BeforeStep|AfterStep|ParameterType)\\b");
+
+    private final Set<String> changedFiles;
+
+    private ChangeImpact(Set<String> changedFiles) {
+        this.changedFiles = changedFiles;
+    }
+
+    /**
+     * @param base git revision to compare the working tree with, e.g. HEAD or origin/main
+     */
+    static ChangeImpact fromGit(String base) throws IOException, InterruptedException {
+        Set<String> files = new LinkedHashSet<>(git("diff", "--name-only", base));
+        files.addAll(git("ls-files", "--others", "--exclude-standard"));
+        return new ChangeImpact(files);
+    }
+
+    /**
+     * Merge base of HEAD with the remote default branch (origin/HEAD, else origin/main or origin/master),
+     * so a branch is compared with where it forked; HEAD when none of them is fetched, e.g. a shallow
+     * CI checkout, which only sees uncommitted changes
+     */
+    static String defaultBase() throws InterruptedException {
+        for (String branch : List.of("origin/HEAD", "origin/main", "origin/master")) {
+            try {
+                return git("merge-base", "HEAD", branch).get(0);
+            } catch (IOException | IndexOutOfBoundsException e) {
+                // try the next one
+            }
+        }
+        System.err.println("⚠️ No remote default branch to compare with, set -Dorder.base; comparing with HEAD");
+        return "HEAD";
+    }
+
+    Set<String> changedFiles() {
+        return changedFiles;
+    }
+
+    /**
+     * @return test for the scenarios affected by the changed files
+     */
+    Predicate<ScenarioRef> affected() throws IOException {
+        Set<String> featureFiles = new LinkedHashSet<>();
+        List<Expression> steps = new ArrayList<>();
+        List<io.cucumber.tagexpressions.Expression> hooks = new ArrayList<>();
+        boolean everything = false;
+
+        List<Path> glueFiles = javaFiles(GLUE_DIR);
+        ParameterTypeRegistry parameterTypes = parameterTypes(glueFiles);
+        ExpressionFactory expressions = new ExpressionFactory(parameterTypes);
+        for (String changed : changedFiles) {
+            Path path = Paths.get(changed);
+            if (changed.endsWith(".feature")) {
+                featureFiles.add(changed);
+            } else if (path.startsWith(GLUE_DIR) && changed.endsWith(".java")) {
+                if (Files.exists(path)) {
+                    String source = Files.readString(path, StandardCharsets.UTF_8);
+                    everything |= collectHooks(source, hooks);
+                    for (String step : stepsReferencing(source, null)) {
+                        steps.add(compile(expressions, parameterTypes, step));
+                    }
+                }
+            } else if (path.startsWith(PAGES_DIR) && changed.endsWith(".java")) {
+                String page = path.getFileName().toString().replace(".java", "");
+                for (Path glue : glueFiles) {
+                    for (String step : stepsReferencing(Files.readString(glue, StandardCharsets.UTF_8), page)) {
+                        steps.add(compile(expressions, parameterTypes, step));
+                    }
+                }
+            } else if (path.startsWith(TEST_SOURCES) || "pom.xml".equals(changed)) {
+                everything = true;
+            }
+        }
+
+        boolean all = everything;
+        return scenario -> all
+            || featureFiles.contains(scenario.uri())
+            || hooks.stream().anyMatch(hook -> hook.evaluate(scenario.tags()))
+            || scenario.steps().stream().anyMatch(text -> steps.stream().anyMatch(step -> step.match(text) != null));
+    }
+
+    /**
+     * Step texts defined in a glue file
+     * @param page if not null, only the steps whose method body references this page object
+     */
+    static List<String> stepsReferencing(String source, String page) {
+        Set<String> pageNames = new LinkedHashSet<>();
+        if (page != null) {
+            pageNames.add(page);
+            // Fields, variables and getters holding the page object, e.g. "CartPage cartPage" or "CartPage getCartPage()"
+            Matcher declarations = Pattern.compile("\\b" + Pattern.quote(page) + "\\s+(\\w+)\\s*[;=(]").matcher(source);
+            while (declarations.find()) {
+                pageNames.add(declarations.group(1));
+            }
+        }
+        List<String> steps = new ArrayList<>();
+        Matcher step = STEP.matcher(source);
+        while (step.find()) {
+            Matcher next = ANNOTATION.matcher(source);
+            int end = next.find(step.end()) ? next.start() : source.length();
+            String body = source.substring(step.end(), end);
+            if (page == null || pageNames.stream().anyMatch(name -> Pattern.compile("\\b" + Pattern.quote(name) + "\\b").matcher(body).find())) {
+                steps.add(unescape(step.group(1)));
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * @return true if the file has an untagged hook, which applies to every scenario
+     */
+    private static boolean collectHooks(String source, List<io.cucumber.tagexpressions.Expression> hooks) {
+        boolean untagged = false;
+        Matcher hook = HOOK.matcher(source);
+        while (hook.find()) {
+            Matcher tags = hook.group(1) == null ? null : HOOK_TAGS.matcher(hook.group(1));
+            if (tags != null && tags.find()) {
+                hooks.add(TagExpressionParser.parse(unescape(tags.group(1))));
+            } else {
+                untagged = true;
+            }
+        }
+        return untagged;
+    }
+
+    /**
+     * Parameter types declared with @ParameterType in the glue, so custom types like {duration} can be matched
+     */
+    private static ParameterTypeRegistry parameterTypes(List<Path> glueFiles) throws IOException {
+        ParameterTypeRegistry registry = new ParameterTypeRegistry(Locale.ENGLISH);
+        Set<String> defined = new LinkedHashSet<>();
+        for (Path glue : glueFiles) {
+            Matcher type = PARAMETER_TYPE.matcher(Files.readString(glue, StandardCharsets.UTF_8));
+            while (type.find()) {
+                if (defined.add(type.group(2))) {
+                    registry.defineParameterType(textParameter(type.group(2), unescape(type.group(1))));
+                }
+            }
+        }
+        return registry;
+    }
+
+    private static Expression compile(ExpressionFactory expressions, ParameterTypeRegistry parameterTypes, String step) {
+        while (true) {
+            try {
+                return expressions.createExpression(step);
+            } catch (UndefinedParameterTypeException e) {
+                // Declared in a way the source scan does not recognize: accept any text
+                parameterTypes.defineParameterType(textParameter(e.getUndefinedParameterTypeName(), ".*?"));
+            }
+        }
+    }
+
+    private static ParameterType<String> textParameter(String name, String regexp) {
+        return new ParameterType<>(name, regexp, String.class, (Transformer<String>) value -> value);
+    }
+
+    private static List<Path> javaFiles(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(file -> file.toString().endsWith(".java")).sorted().toList();
+        }
+    }
+
+    private static String unescape(String javaString) {
+        return javaString.replaceAll("\\\\(.)", "$1");
+    }
+
+    private static List<String> git(String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output;
+        try (InputStream stream = process.getInputStream()) {
+            output = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        if (!process.waitFor(30, TimeUnit.SECONDS) || process.exitValue() != 0) {
+            throw new IOException("git " + String.join(" ", args) + " failed: " + output.trim());
+        }
+        return output.lines().map(String::trim).filter(line -> !line.isEmpty()).toList();
+    }
+}
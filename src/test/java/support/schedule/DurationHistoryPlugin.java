@@ -0,0 +1,53 @@
+package support.schedule;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import support.schedule.ScenarioDurationHistory.Measurement;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cucumber plugin adding the duration of every executed scenario to the duration history
+ * (test-history/scenario-durations.json, or -Dschedule.history=path) at the end of the run
+ */
+public class DurationHistoryPlugin implements ConcurrentEventListener {
+
+    private final Map<String, Measurement> measurements = new ConcurrentHashMap<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> save());
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        Status status = event.getResult().getStatus();
+        // Skipped, pending or undefined scenarios stop early and would drag the estimate down
+        if (status != Status.PASSED && status != Status.FAILED) {
+            return;
+        }
+        TestCase testCase = event.getTestCase();
+        String key = ScenarioCatalog.ScenarioRef.key(ScenarioCatalog.relativeUri(testCase.getUri()), testCase.getName());
+        measurements.put(key, new Measurement(event.getResult().getDuration().toMillis(), status.name(), Instant.now()));
+    }
+
+    private void save() {
+        if (measurements.isEmpty()) {
+            return;
+        }
+        try {
+            ScenarioDurationHistory.update(ScenarioDurationHistory.file(), measurements);
+            System.out.println("✓ Duration history updated for " + measurements.size() + " scenario(s)");
+            measurements.clear();
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not update the duration history: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package support.schedule;
+
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Examples;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.GherkinDocument;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleStep;
+import io.cucumber.messages.types.PickleTag;
+import io.cucumber.messages.types.RuleChild;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.TableRow;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Every scenario (pickle) of the feature files, read with the Gherkin parser Cucumber itself uses
+ */
+public final class ScenarioCatalog {
+
+    public static final Path FEATURES_DIR = Paths.get("src", "test", "java", "features");
+
+    /**
+     * @param uri feature file path relative to the project, with "/" separators
+     * @param feature name of the feature, as in Surefire's test names ("&lt;feature&gt;.&lt;scenario&gt;")
+     * @param line line of the scenario, or of the example row for outlines, as used in rerun files
+     * @param steps step texts, after outline substitution
+     */
+    public record ScenarioRef(String uri, String feature, int line, String name, List<String> tags, List<String> steps) {
+
+        /**
+         * Identity kept across edits that move the scenario to another line
+         */
+        public String key() {
+            return key(uri, name);
+        }
+
+        /**
+         * Feature path with line, as accepted by Cucumber on the command line and in rerun files
+         */
+        public String location() {
+            return uri + ":" + line;
+        }
+
+        public static String key(String uri, String name) {
+            return uri + "#" + name;
+        }
+
+        /**
+         * Test name of the scenario in the Surefire reports, and so in the JIRA failure index
+         */
+        public String testName() {
+            return feature.isEmpty() ? name : feature + "." + name;
+        }
+    }
+
+    private ScenarioCatalog() {
+    }
+
+    /**
+     * @param tagExpression Cucumber tag expression, or null/blank for every scenario
+     */
+    public static List<ScenarioRef> load(Path featuresDir, String tagExpression) throws IOException {
+        Expression filter = tagExpression == null || tagExpression.isBlank() ? null : TagExpressionParser.parse(tagExpression);
+        List<Path> features;
+        try (Stream<Path> files = Files.walk(featuresDir)) {
+            features = files.filter(file -> file.toString().endsWith(".feature")).sorted().toList();
+        }
+        GherkinParser parser = GherkinParser.builder().includeSource(false).build();
+        List<ScenarioRef> scenarios = new ArrayList<>();
+        for (Path feature : features) {
+            Map<String, Integer> lines = new HashMap<>();
+            List<Pickle> pickles = new ArrayList<>();
+            StringBuilder featureName = new StringBuilder();
+            try (Stream<Envelope> envelopes = parser.parse(feature)) {
+                envelopes.forEach(envelope -> {
+                    envelope.getGherkinDocument().ifPresent(document -> {
+                        collectLines(document, lines);
+                        document.getFeature().ifPresent(parsed -> featureName.append(parsed.getName()));
+                    });
+                    envelope.getPickle().ifPresent(pickles::add);
+                });
+            }
+            String uri = relativeUri(feature);
+            for (Pickle pickle : pickles) {
+                List<String> tags = pickle.getTags().stream().map(PickleTag::getName).toList();
+                if (filter != null && !filter.evaluate(tags)) {
+                    continue;
+                }
+                List<String> astNodeIds = pickle.getAstNodeIds();
+                int line = lines.getOrDefault(astNodeIds.get(astNodeIds.size() - 1), 0);
+                List<String> steps = pickle.getSteps().stream().map(PickleStep::getText).toList();
+                scenarios.add(new ScenarioRef(uri, featureName.toString(), line, pickle.getName(), tags, steps));
+            }
+        }
+        return scenarios;
+    }
+
+    /**
+     * Project-relative form of a feature URI reported by Cucumber (file:/.../src/test/java/features/Login.feature)
+     */
+    public static String relativeUri(URI uri) {
+        return "file".equals(uri.getScheme()) ? relativeUri(Paths.get(uri)) : uri.getSchemeSpecificPart();
+    }
+
+    public static String relativeUri(Path path) {
+        Path absolute = path.toAbsolutePath().normalize();
+        Path root = Paths.get("").toAbsolutePath();
+        Path relative = absolute.startsWith(root) ? root.relativize(absolute) : absolute;
+        return relative.toString().replace('\\', '/');
+    }
+
+    /**
+     * Map scenario and example row ids to their line: a pickle's last AST node id is one of them
+     */
+    private static void collectLines(GherkinDocument document, Map<String, Integer> lines) {
+        document.getFeature().ifPresent(feature -> {
+            for (FeatureChild child : feature.getChildren()) {
+                child.getScenario().ifPresent(scenario -> collectLines(scenario, lines));
+                child.getRule().ifPresent(rule -> {
+                    for (RuleChild ruleChild : rule.getChildren()) {
+                        ruleChild.getScenario().ifPresent(scenario -> collectLines(scenario, lines));
+                    }
+                });
+            }
+        });
+    }
+
+    private static void collectLines(Scenario scenario, Map<String, Integer> lines) {
+        lines.put(scenario.getId(), scenario.getLocation().getLine().intValue());
+        for (Examples examples : scenario.getExamples()) {
+            for (TableRow row : examples.getTableBody()) {
+                lines.put(row.getId(), row.getLocation().getLine().intValue());
+            }
+        }
+    }
+}
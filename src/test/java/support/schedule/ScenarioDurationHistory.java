@@ -0,0 +1,146 @@
+package support.schedule;
+
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+/**
+ * Per-scenario durations across runs, kept in test-history/scenario-durations.json
+ *
+ * Each scenario (see ScenarioCatalog.ScenarioRef#key) keeps an exponentially weighted moving
+ * average of its duration, so one slow run moves the estimate without replacing it, plus the
+ * last duration and status. Written by DurationHistoryPlugin, read by the schedulers.
+ */
+public final class ScenarioDurationHistory {
+
+    public static final Path DEFAULT_FILE = Paths.get("test-history", "scenario-durations.json");
+
+    // Weight of the newest run in the moving average
+    private static final double ALPHA = 0.3;
+    private static final Object FILE_LOCK = new Object();
+
+    public record Entry(double ewmaMs, long lastMs, int runs, String lastStatus, Instant lastRun) {
+
+        JSONObject toJson() {
+            return new JSONObject()
+                .put("ewmaMs", Math.round(ewmaMs))
+                .put("lastMs", lastMs)
+                .put("runs", runs)
+                .put("lastStatus", lastStatus)
+                .put("lastRun", lastRun.toString());
+        }
+
+        static Entry fromJson(JSONObject json) {
+            return new Entry(json.getDouble("ewmaMs"), json.getLong("lastMs"), json.getInt("runs"),
+                json.optString("lastStatus", ""), Instant.parse(json.getString("lastRun")));
+        }
+    }
+
+    public record Measurement(long durationMs, String status, Instant finishedAt) {
+    }
+
+    private final Map<String, Entry> entries;
+
+    private ScenarioDurationHistory(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * @return -Dschedule.history if set, otherwise {@link #DEFAULT_FILE}
+     */
+    public static Path file() {
+        String file = System.getProperty("schedule.history");
+        return file == null || file.isBlank() ? DEFAULT_FILE : Paths.get(file);
+    }
+
+    /**
+     * @return the history, empty if the file does not exist or cannot be read
+     */
+    public static ScenarioDurationHistory load(Path file) {
+        Map<String, Entry> entries = new TreeMap<>();
+        if (Files.exists(file)) {
+            try {
+                JSONObject scenarios = new JSONObject(Files.readString(file, StandardCharsets.UTF_8)).getJSONObject("scenarios");
+                for (String key : scenarios.keySet()) {
+                    entries.put(key, Entry.fromJson(scenarios.getJSONObject(key)));
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("⚠️ Ignoring unreadable duration history " + file + ": " + e.getMessage());
+            }
+        }
+        return new ScenarioDurationHistory(entries);
+    }
+
+    /**
+     * Merge new measurements into the history file
+     * @param measurements measurement per scenario key
+     */
+    public static void update(Path file, Map<String, Measurement> measurements) throws IOException {
+        synchronized (FILE_LOCK) {
+            ScenarioDurationHistory history = load(file);
+            measurements.forEach(history::record);
+            history.save(file);
+        }
+    }
+
+    public Entry get(String key) {
+        return entries.get(key);
+    }
+
+    public Map<String, Entry> entries() {
+        return Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * @return the moving-average duration of the scenario, if it ran before
+     */
+    public OptionalLong estimateMs(String key) {
+        Entry entry = entries.get(key);
+        return entry == null ? OptionalLong.empty() : OptionalLong.of(Math.round(entry.ewmaMs()));
+    }
+
+    /**
+     * Estimate for scenarios without history: the median of the known ones
+     */
+    public long defaultEstimateMs(long fallbackMs) {
+        List<Double> known = new ArrayList<>();
+        entries.values().forEach(entry -> known.add(entry.ewmaMs()));
+        if (known.isEmpty()) {
+            return fallbackMs;
+        }
+        Collections.sort(known);
+        return Math.round(known.get(known.size() / 2));
+    }
+
+    private void record(String key, Measurement measurement) {
+        Entry previous = entries.get(key);
+        double ewma = previous == null
+            ? measurement.durationMs()
+            : ALPHA * measurement.durationMs() + (1 - ALPHA) * previous.ewmaMs();
+        int runs = previous == null ? 1 : previous.runs() + 1;
+        entries.put(key, new Entry(ewma, measurement.durationMs(), runs, measurement.status(), measurement.finishedAt()));
+    }
+
+    private void save(Path file) throws IOException {
+        JSONObject scenarios = new JSONObject();
+        entries.forEach((key, entry) -> scenarios.put(key, entry.toJson()));
+        JSONObject json = new JSONObject().put("updatedAt", Instant.now().toString()).put("scenarios", scenarios);
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = parent.resolve(file.getFileName() + ".tmp");
+        Files.writeString(temp, json.toString(2), StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
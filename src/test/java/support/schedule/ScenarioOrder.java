@@ -0,0 +1,159 @@
+package support.schedule;
+
+import org.example.jira.FailureHistory;
+import support.schedule.ScenarioCatalog.ScenarioRef;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Failure-first, then change-impact ordering of the scenarios
+ *
+ * 1. failed: scenarios listed in a rerun file, failed in the last recorded run (duration history)
+ *    or reported to JIRA within -Dorder.failure.days (default 7)
+ * 2. changed: scenarios affected by the git diff against -Dorder.base (default: the merge base of HEAD
+ *    with the remote default branch), see ChangeImpact
+ * 3. rest: every other scenario
+ *
+ * Each phase is written to target/schedule/order-&lt;n&gt;-&lt;phase&gt;.txt (rerun-file format), so the failed
+ * scenarios can also be run on their own; ScheduledTestRunner applies the order with -Dscenario.order=failed-first.
+ */
+public final class ScenarioOrder {
+
+    public static final Path REPORTS_DIR = Paths.get("target", "cucumber-reports");
+
+    public record Phase(String name, List<ScenarioRef> scenarios) {
+    }
+
+    private ScenarioOrder() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Path> files = write(phases(System.getProperty("cucumber.filter.tags")));
+        files.forEach(file -> System.out.println("✓ " + file));
+    }
+
+    /**
+     * @return the non-empty phases, in execution order
+     */
+    public static List<Phase> phases(String tagExpression) throws IOException, InterruptedException {
+        List<ScenarioRef> remaining = new ArrayList<>(ScenarioCatalog.load(ScenarioCatalog.FEATURES_DIR, tagExpression));
+        List<Phase> phases = new ArrayList<>();
+
+        Predicate<ScenarioRef> failed = recentlyFailed();
+        phases.add(new Phase("failed", take(remaining, failed)));
+
+        try {
+            String base = System.getProperty("order.base");
+            ChangeImpact impact = ChangeImpact.fromGit(base == null || base.isBlank() ? ChangeImpact.defaultBase() : base);
+            phases.add(new Phase("changed", take(remaining, impact.affected())));
+        } catch (IOException e) {
+            System.err.println("⚠️ Change-impact ordering skipped: " + e.getMessage());
+        }
+
+        phases.add(new Phase("rest", remaining));
+        phases.removeIf(phase -> phase.scenarios().isEmpty());
+        for (Phase phase : phases) {
+            System.out.println("Phase '" + phase.name() + "': " + phase.scenarios().size() + " scenario(s)");
+        }
+        return phases;
+    }
+
+    /**
+     * Write one rerun file per phase, replacing the files of a previous ordering
+     */
+    public static List<Path> write(List<Phase> phases) throws IOException {
+        Files.createDirectories(ScenarioScheduler.SCHEDULE_DIR);
+        try (DirectoryStream<Path> previous = Files.newDirectoryStream(ScenarioScheduler.SCHEDULE_DIR, "order-*.txt")) {
+            for (Path file : previous) {
+                Files.delete(file);
+            }
+        }
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < phases.size(); i++) {
+            Phase phase = phases.get(i);
+            StringBuilder lines = new StringBuilder();
+            for (ScenarioRef scenario : phase.scenarios()) {
+                lines.append(scenario.location()).append(System.lineSeparator());
+            }
+            Path file = ScenarioScheduler.SCHEDULE_DIR.resolve("order-" + (i + 1) + "-" + phase.name() + ".txt");
+            Files.writeString(file, lines, StandardCharsets.UTF_8);
+            files.add(file);
+        }
+        return files;
+    }
+
+    private static List<ScenarioRef> take(List<ScenarioRef> remaining, Predicate<ScenarioRef> selected) {
+        List<ScenarioRef> taken = new ArrayList<>();
+        remaining.removeIf(scenario -> selected.test(scenario) && taken.add(scenario));
+        return taken;
+    }
+
+    private static Predicate<ScenarioRef> recentlyFailed() throws IOException {
+        Set<String> locations = rerunLocations();
+
+        Set<String> keys = new HashSet<>();
+        ScenarioDurationHistory.load(ScenarioDurationHistory.file()).entries().forEach((key, entry) -> {
+            if ("FAILED".equals(entry.lastStatus())) {
+                keys.add(key);
+            }
+        });
+
+        // JIRA reporter test names are Surefire's "<feature name>.<scenario name>"
+        Instant since = Instant.now().minus(Duration.ofDays(Long.getLong("order.failure.days", 7)));
+        Set<String> testNames = FailureHistory.testNamesFailedSince(since);
+
+        return scenario -> locations.contains(scenario.location()) || keys.contains(scenario.key()) || testNames.contains(scenario.testName());
+    }
+
+    /**
+     * "feature:line" of every scenario listed in the rerun files of the last runs
+     */
+    static Set<String> rerunLocations() throws IOException {
+        Set<String> locations = new HashSet<>();
+        if (!Files.isDirectory(REPORTS_DIR)) {
+            return locations;
+        }
+        try (DirectoryStream<Path> rerunFiles = Files.newDirectoryStream(REPORTS_DIR, "*rerun*.txt")) {
+            for (Path rerunFile : rerunFiles) {
+                parseRerunFile(Files.readString(rerunFile, StandardCharsets.UTF_8)).forEach((feature, lines) ->
+                    lines.forEach(line -> locations.add(feature + ":" + line)));
+            }
+        }
+        return locations;
+    }
+
+    /**
+     * Parse Cucumber's rerun format: whitespace-separated "path:line:line..." entries
+     * @return project-relative feature path to its lines
+     */
+    public static Map<String, List<Integer>> parseRerunFile(String content) {
+        Map<String, List<Integer>> features = new LinkedHashMap<>();
+        for (String entry : content.trim().split("\\s+")) {
+            String[] parts = entry.split(":");
+            int first = parts.length > 1 && "file".equals(parts[0]) ? 1 : 0;
+            if (parts.length - first < 2) {
+                continue;
+            }
+            String feature = ScenarioCatalog.relativeUri(Paths.get(parts[first]));
+            List<Integer> lines = features.computeIfAbsent(feature, key -> new ArrayList<>());
+            for (int i = first + 1; i < parts.length; i++) {
+                lines.add(Integer.parseInt(parts[i]));
+            }
+        }
+        return features;
+    }
+}
@@ -0,0 +1,142 @@
+package support.schedule;
+
+import support.schedule.ScenarioCatalog.ScenarioRef;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * Splits the scenarios across parallel workers using their recorded durations
+ *
+ * Longest-processing-time-first: scenarios are taken from the longest to the shortest estimate
+ * and each one goes to the worker with the least work so far, which keeps the slowest worker
+ * (the makespan) within 4/3 of the optimum. Scenarios without history are estimated at the
+ * median of the known ones.
+ *
+ * Writes target/schedule/worker-&lt;i&gt;.txt, one "feature:line" per scenario, to be run with
+ * mvn test -Dtest=ScheduledTestRunner -Dcucumber.features=@target/schedule/worker-0.txt
+ *
+ * Properties: schedule.workers (default: available processors), cucumber.filter.tags,
+ * schedule.history (default test-history/scenario-durations.json)
+ *
+ * The same plan drives sharded runs (-Dshard.index=i -Dshard.count=n, see runner.ScheduledCucumber):
+ * every shard computes it independently and keeps its own part, so all shards must see the same
+ * feature files and duration history.
+ */
+public final class ScenarioScheduler {
+
+    public static final Path SCHEDULE_DIR = Paths.get("target", "schedule");
+    private static final long FALLBACK_ESTIMATE_MS = 30_000;
+
+    /**
+     * @param workers scenarios of each worker, longest first
+     * @param loadMs estimated total duration of each worker
+     */
+    public record Plan(List<List<ScenarioRef>> workers, long[] loadMs) {
+
+        public long makespanMs() {
+            long max = 0;
+            for (long load : loadMs) {
+                max = Math.max(max, load);
+            }
+            return max;
+        }
+    }
+
+    private ScenarioScheduler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int workers = Math.max(1, Integer.getInteger("schedule.workers", Runtime.getRuntime().availableProcessors()));
+        List<ScenarioRef> scenarios = ScenarioCatalog.load(ScenarioCatalog.FEATURES_DIR, System.getProperty("cucumber.filter.tags"));
+        ScenarioDurationHistory history = ScenarioDurationHistory.load(ScenarioDurationHistory.file());
+        ToLongFunction<ScenarioRef> estimate = estimator(history);
+
+        Plan plan = longestFirst(scenarios, estimate, workers);
+        write(plan);
+
+        long serialMs = scenarios.stream().mapToLong(estimate).sum();
+        System.out.println(String.format(Locale.ROOT, "✓ %d scenario(s) scheduled on %d worker(s) in %s: estimated %.1fs instead of %.1fs serially",
+            scenarios.size(), workers, SCHEDULE_DIR, plan.makespanMs() / 1000.0, serialMs / 1000.0));
+        for (int i = 0; i < workers; i++) {
+            System.out.println(String.format(Locale.ROOT, "  worker-%d: %d scenario(s), %.1fs", i, plan.workers().get(i).size(), plan.loadMs()[i] / 1000.0));
+        }
+    }
+
+    /**
+     * Estimated duration of a scenario: its moving average, or the median of the known scenarios
+     */
+    public static ToLongFunction<ScenarioRef> estimator(ScenarioDurationHistory history) {
+        long defaultMs = history.defaultEstimateMs(FALLBACK_ESTIMATE_MS);
+        return scenario -> history.estimateMs(scenario.key()).orElse(defaultMs);
+    }
+
+    /**
+     * Longest-processing-time-first bin packing
+     */
+    public static Plan longestFirst(List<ScenarioRef> scenarios, ToLongFunction<ScenarioRef> estimate, int workers) {
+        List<ScenarioRef> longestFirst = new ArrayList<>(scenarios);
+        longestFirst.sort(Comparator.comparingLong(estimate).reversed().thenComparing(ScenarioRef::location));
+
+        List<List<ScenarioRef>> assigned = new ArrayList<>();
+        long[] load = new long[workers];
+        for (int i = 0; i < workers; i++) {
+            assigned.add(new ArrayList<>());
+        }
+        PriorityQueue<Integer> leastLoaded = new PriorityQueue<>(
+            Comparator.<Integer>comparingLong(worker -> load[worker]).thenComparingInt(worker -> worker));
+        for (int i = 0; i < workers; i++) {
+            leastLoaded.add(i);
+        }
+        for (ScenarioRef scenario : longestFirst) {
+            int worker = leastLoaded.poll();
+            assigned.get(worker).add(scenario);
+            load[worker] += estimate.applyAsLong(scenario);
+            leastLoaded.add(worker);
+        }
+        return new Plan(assigned, load);
+    }
+
+    /**
+     * Scenarios of one shard, in feature order
+     * @param index shard index, from 0 to count - 1
+     */
+    public static List<ScenarioRef> shard(List<ScenarioRef> scenarios, int index, int count) throws IOException {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("shard.index must be between 0 and " + (count - 1) + ", got " + index);
+        }
+        ScenarioDurationHistory history = ScenarioDurationHistory.load(ScenarioDurationHistory.file());
+        Plan plan = longestFirst(scenarios, estimator(history), count);
+        List<ScenarioRef> shard = new ArrayList<>(plan.workers().get(index));
+        shard.sort(Comparator.comparingInt(scenarios::indexOf));
+        System.out.println(String.format(Locale.ROOT, "✓ Shard %d/%d: %d of %d scenario(s), estimated %.1fs (slowest shard %.1fs)",
+            index + 1, count, shard.size(), scenarios.size(), plan.loadMs()[index] / 1000.0, plan.makespanMs() / 1000.0));
+        return shard;
+    }
+
+    private static void write(Plan plan) throws IOException {
+        Files.createDirectories(SCHEDULE_DIR);
+        try (DirectoryStream<Path> previous = Files.newDirectoryStream(SCHEDULE_DIR, "worker-*.txt")) {
+            for (Path file : previous) {
+                Files.delete(file);
+            }
+        }
+        for (int i = 0; i < plan.workers().size(); i++) {
+            StringBuilder lines = new StringBuilder();
+            for (ScenarioRef scenario : plan.workers().get(i)) {
+                lines.append(scenario.location()).append(System.lineSeparator());
+            }
+            Files.writeString(SCHEDULE_DIR.resolve("worker-" + i + ".txt"), lines, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -8,7 +8,12 @@ import org.junit.jupiter.api.TestInfo;
 import org.openqa.selenium.WebDriver;
 import pages.LoginPage;
 import support.BaseTest;
-import com.github.javafaker.Faker;
+import support.data.TestDataPool;
+import support.log.DriverLog;
+import support.log.TestLog;
+import support.perf.NetworkCapture;
+
+import java.lang.reflect.Method;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,7 +25,6 @@ import static org.junit.jupiter.api.Assertions.*;
 public class LoginTest extends BaseTest {
 
     private LoginPage loginPage;
-    private Faker faker;
     private boolean testFailed = false;
 
 
@@ -28,16 +32,16 @@ public class LoginTest extends BaseTest {
      * Executed BEFORE each test
      */
     @BeforeEach
-    public void setUp() {
-        System.out.println("\n========== TEST STARTED ==========");
+    public void setUp(TestInfo testInfo) {
+        TestLog.startScenario(testInfo.getTestMethod().map(Method::getName).orElse(testInfo.getDisplayName()));
+        NetworkCapture.startScenario();
         testFailed = false;
 
         // Setup WebDriver using BaseTest (uses DriverFactory for CI/CD compatibility)
         BaseTest.setupDriver();
         loginPage = new LoginPage(driver);
-        faker = new Faker();
 
-        System.out.println("✓ WebDriver initialized");
+        TestLog.info("✓ WebDriver initialized");
     }
 
     /**
@@ -50,14 +54,18 @@ public class LoginTest extends BaseTest {
             String testName = testInfo.getDisplayName();
             String screenshotPath = BaseTest.takeScreenshot(testName);
             if (screenshotPath != null) {
-                System.out.println("📸 Screenshot saved: " + screenshotPath);
+                TestLog.info("📸 Screenshot saved: " + screenshotPath);
             } else {
-                System.out.println("⚠️ Failed to capture screenshot");
+                TestLog.warn("⚠️ Failed to capture screenshot");
             }
         }
 
+        if (testFailed) {
+            DriverLog.saveCurrent(testInfo.getTestMethod().map(Method::getName).orElse(testInfo.getDisplayName()));
+        }
         BaseTest.teardownDriver();
-        System.out.println("========== TEST COMPLETED ==========\n");
+        NetworkCapture.endScenario(testFailed);
+        TestLog.endScenario();
     }
 
     // TEST 1: HAPPY PATH
@@ -77,22 +85,22 @@ public class LoginTest extends BaseTest {
     }
 
     private void runTestLoginWithValidCredentials() {
-        System.out.println("\n--- Starting Login Test: Valid Credentials ---\n");
+        TestLog.info("--- Starting Login Test: Valid Credentials ---");
 
         // Arrange
         String username = "standard_user5";
         String password = "secret_sauce";
 
-        System.out.println("Step 1: Navigate to login page");
+        TestLog.info("Step 1: Navigate to login page");
         loginPage.navigateToLoginPage();
 
-        System.out.println("\nStep 2: Enter username");
+        TestLog.info("Step 2: Enter username");
         loginPage.enterUsername(username);
 
-        System.out.println("\nStep 3: Enter password");
+        TestLog.info("Step 3: Enter password");
         loginPage.enterPassword(password);
 
-        System.out.println("\nStep 4: Click login button");
+        TestLog.info("Step 4: Click login button");
         loginPage.clickLoginButton();
 
         try {
@@ -101,15 +109,15 @@ public class LoginTest extends BaseTest {
             Thread.currentThread().interrupt();
         }
 
-        System.out.println("\nStep 5: Verify successful login");
+        TestLog.info("Step 5: Verify successful login");
         String currentUrl = driver.getCurrentUrl();
         assertTrue(
             currentUrl.contains("inventory"),
             "ERROR: Should be redirected to inventory page"
         );
-        System.out.println("✓ Successfully logged in and redirected to inventory page");
+        TestLog.info("✓ Successfully logged in and redirected to inventory page");
 
-        System.out.println("\n--- Login Test: Valid Credentials PASSED ---\n");
+        TestLog.info("--- Login Test: Valid Credentials PASSED ---");
     }
 
     // TEST 2: INVALID PASSWORD
@@ -129,22 +137,22 @@ public class LoginTest extends BaseTest {
     }
 
     private void runTestLoginWithInvalidPassword() {
-        System.out.println("\n--- Starting Login Test: Invalid Password ---\n");
+        TestLog.info("--- Starting Login Test: Invalid Password ---");
 
         // Arrange
         String username = "standard_user";
-        String invalidPassword = faker.internet().password();
+        String invalidPassword = TestDataPool.invalidCredentials().password();
 
-        System.out.println("Step 1: Navigate to login page");
+        TestLog.info("Step 1: Navigate to login page");
         loginPage.navigateToLoginPage();
 
-        System.out.println("\nStep 2: Enter username");
+        TestLog.info("Step 2: Enter username");
         loginPage.enterUsername(username);
 
-        System.out.println("\nStep 3: Enter invalid password (generated with Faker)");
+        TestLog.info("Step 3: Enter invalid password (generated with Faker)");
         loginPage.enterPassword(invalidPassword);
 
-        System.out.println("\nStep 4: Click login button");
+        TestLog.info("Step 4: Click login button");
         loginPage.clickLoginButton();
 
         try {
@@ -153,45 +161,45 @@ public class LoginTest extends BaseTest {
             Thread.currentThread().interrupt();
         }
 
-        System.out.println("\nStep 5: Verify error message is displayed");
+        TestLog.info("Step 5: Verify error message is displayed");
         assertTrue(
             loginPage.isErrorMessageDisplayed(),
             "ERROR: Error message should be displayed!"
         );
         String errorMessage = loginPage.getErrorMessage();
-        System.out.println("✓ Error message is displayed");
-        System.out.println("✓ Error message captured: " + errorMessage);
+        TestLog.info("✓ Error message is displayed");
+        TestLog.info("✓ Error message captured: " + errorMessage);
 
-        System.out.println("\nStep 6: Verify error message contains 'Epic sadface'");
+        TestLog.info("Step 6: Verify error message contains 'Epic sadface'");
         assertTrue(
             errorMessage.contains("Epic sadface"),
             "ERROR: Message should contain 'Epic sadface'. Actual: " + errorMessage
         );
-        System.out.println("✓ Error message contains 'Epic sadface'");
+        TestLog.info("✓ Error message contains 'Epic sadface'");
 
-        System.out.println("\nStep 7: Verify error icons are visible");
+        TestLog.info("Step 7: Verify error icons are visible");
         assertTrue(
             loginPage.areErrorIconsDisplayed(),
             "ERROR: Error icons should be visible!"
         );
         int errorIconCount = 2; // Username and password fields
-        System.out.println("✓ Error icons found: " + errorIconCount);
+        TestLog.info("✓ Error icons found: " + errorIconCount);
 
-        System.out.println("\nStep 8: Verify username field has error class");
+        TestLog.info("Step 8: Verify username field has error class");
         assertTrue(
             loginPage.doesUsernameFieldHaveErrorClass(),
             "ERROR: Username field should have error class"
         );
-        System.out.println("✓ Username field has error class: " + loginPage.doesUsernameFieldHaveErrorClass());
+        TestLog.info("✓ Username field has error class: " + loginPage.doesUsernameFieldHaveErrorClass());
 
-        System.out.println("\nStep 9: Verify password field has error class");
+        TestLog.info("Step 9: Verify password field has error class");
         assertTrue(
             loginPage.doesPasswordFieldHaveErrorClass(),
             "ERROR: Password field should have error class"
         );
-        System.out.println("✓ Password field has error class: " + loginPage.doesPasswordFieldHaveErrorClass());
+        TestLog.info("✓ Password field has error class: " + loginPage.doesPasswordFieldHaveErrorClass());
 
-        System.out.println("\n--- Login Test: Invalid Password PASSED ---\n");
+        TestLog.info("--- Login Test: Invalid Password PASSED ---");
     }
 
     // TEST 3: INVALID USERNAME
@@ -211,22 +219,22 @@ public class LoginTest extends BaseTest {
     }
 
     private void runTestLoginWithInvalidUsername() {
-        System.out.println("\n--- Starting Login Test: Invalid Username ---\n");
+        TestLog.info("--- Starting Login Test: Invalid Username ---");
 
         // Arrange
-        String invalidUsername = faker.name().username();
+        String invalidUsername = TestDataPool.invalidCredentials().username();
         String password = "secret_sauce";
 
-        System.out.println("Step 1: Navigate to login page");
+        TestLog.info("Step 1: Navigate to login page");
         loginPage.navigateToLoginPage();
 
-        System.out.println("\nStep 2: Enter invalid username (generated with Faker)");
+        TestLog.info("Step 2: Enter invalid username (generated with Faker)");
         loginPage.enterUsername(invalidUsername);
 
-        System.out.println("\nStep 3: Enter password");
+        TestLog.info("Step 3: Enter password");
         loginPage.enterPassword(password);
 
-        System.out.println("\nStep 4: Click login button");
+        TestLog.info("Step 4: Click login button");
         loginPage.clickLoginButton();
 
         try {
@@ -235,49 +243,49 @@ public class LoginTest extends BaseTest {
             Thread.currentThread().interrupt();
         }
 
-        System.out.println("\nStep 5: Verify error message is displayed");
+        TestLog.info("Step 5: Verify error message is displayed");
         assertTrue(
             loginPage.isErrorMessageDisplayed(),
             "ERROR: Error message should be displayed!"
         );
         String errorMessage = loginPage.getErrorMessage();
-        System.out.println("✓ Error message is displayed");
-        System.out.println("✓ Error message captured: " + errorMessage);
+        TestLog.info("✓ Error message is displayed");
+        TestLog.info("✓ Error message captured: " + errorMessage);
 
-        System.out.println("\nStep 6: Verify error message matches expected text");
+        TestLog.info("Step 6: Verify error message matches expected text");
         String expectedMessage = "Epic sadface: Username and password do not match any user in this service";
         assertEquals(
             expectedMessage,
             errorMessage,
             "ERROR: Error message should match exactly"
         );
-        System.out.println("✓ Error message matches expected text");
+        TestLog.info("✓ Error message matches expected text");
 
-        System.out.println("\nStep 7: Verify both fields have error styling");
+        TestLog.info("Step 7: Verify both fields have error styling");
         assertTrue(
             loginPage.doesUsernameFieldHaveErrorClass() && loginPage.doesPasswordFieldHaveErrorClass(),
             "ERROR: Both fields should have error class"
         );
-        System.out.println("✓ Username field has error class: " + loginPage.doesUsernameFieldHaveErrorClass());
-        System.out.println("✓ Password field has error class: " + loginPage.doesPasswordFieldHaveErrorClass());
+        TestLog.info("✓ Username field has error class: " + loginPage.doesUsernameFieldHaveErrorClass());
+        TestLog.info("✓ Password field has error class: " + loginPage.doesPasswordFieldHaveErrorClass());
 
-        System.out.println("\nStep 8: Verify error icons are visible");
+        TestLog.info("Step 8: Verify error icons are visible");
         assertTrue(
             loginPage.areErrorIconsDisplayed(),
             "ERROR: Error icons should be visible!"
         );
         int errorIconCount = 2; // Username and password fields
-        System.out.println("✓ Error icons found: " + errorIconCount);
+        TestLog.info("✓ Error icons found: " + errorIconCount);
 
-        System.out.println("\nStep 9: Verify user remains on login page");
+        TestLog.info("Step 9: Verify user remains on login page");
         String currentUrl = driver.getCurrentUrl();
         assertFalse(
             currentUrl.contains("inventory"),
             "ERROR: Should NOT be redirected to inventory page"
         );
-        System.out.println("✓ User remains on login page (not redirected to inventory)");
+        TestLog.info("✓ User remains on login page (not redirected to inventory)");
 
-        System.out.println("\n--- Login Test: Invalid Username PASSED ---\n");
+        TestLog.info("--- Login Test: Invalid Username PASSED ---");
     }
 }
 
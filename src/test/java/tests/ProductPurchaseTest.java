@@ -8,6 +8,9 @@ import pages.CheckoutOverviewPage;
 import pages.CheckoutPage;
 import pages.ProductPurchasePage;
 import support.BaseTest;
+import support.log.DriverLog;
+import support.log.TestLog;
+import support.perf.NetworkCapture;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -40,12 +43,14 @@ public class ProductPurchaseTest extends BaseTest {
         try {
             Files.createDirectories(Paths.get("target", "screenshots"));
         } catch (Exception e) {
-            System.err.println("⚠️ Could not create screenshots directory: " + e.getMessage());
+            TestLog.warn("⚠️ Could not create screenshots directory: " + e.getMessage());
         }
     }
 
     @Before
     public void setup() {
+        TestLog.startScenario(testName.getMethodName());
+        NetworkCapture.startScenario();
         BaseTest.setupDriver();
         productPage = new ProductPurchasePage(driver);
         cartPage = new CartPage(driver);
@@ -62,13 +67,18 @@ public class ProductPurchaseTest extends BaseTest {
             String currentTestName = testName.getMethodName();
             String screenshotPath = BaseTest.takeScreenshot(currentTestName);
             if (screenshotPath != null) {
-                System.out.println("📸 Screenshot saved: " + screenshotPath);
+                TestLog.info("📸 Screenshot saved: " + screenshotPath);
             } else {
-                System.out.println("⚠️ Failed to capture screenshot");
+                TestLog.warn("⚠️ Failed to capture screenshot");
             }
         }
 
+        if (testFailed) {
+            DriverLog.saveCurrent(testName.getMethodName());
+        }
         BaseTest.teardownDriver();
+        NetworkCapture.endScenario(testFailed);
+        TestLog.endScenario();
     }
 
     @Test
@@ -82,85 +92,85 @@ public class ProductPurchaseTest extends BaseTest {
     }
 
     private void runTestCompletePurchaseFlow() {
-        System.out.println("\n--- Starting Complete Purchase Flow Test ---\n");
+        TestLog.info("--- Starting Complete Purchase Flow Test ---");
 
         // Step 1: Login
-        System.out.println("Step 1: Login to website");
+        TestLog.info("Step 1: Login to website");
         productPage.loginStandardUser();
         Assert.assertTrue("Products title should be visible after login",
             productPage.isProductsTitleVisible());
 
         // Step 2: Sort by price (low to high)
-        System.out.println("\nStep 2: Sort products by price (low to high)");
+        TestLog.info("Step 2: Sort products by price (low to high)");
         productPage.clickSortDropdown();
         productPage.selectPriceLowToHigh();
 
         // Step 3: Verify first item has lowest price
-        System.out.println("\nStep 3: Verify first item has lowest price");
+        TestLog.info("Step 3: Verify first item has lowest price");
         Assert.assertTrue("First item should have the lowest price",
             productPage.verifyFirstItemHasLowestPrice());
 
         // Step 4: Store product info and add to cart
-        System.out.println("\nStep 4: Add first item to cart");
+        TestLog.info("Step 4: Add first item to cart");
         productPage.storeFirstProductInfo();
         productPage.clickFirstItemAddToCart();
         int cartCountBeforeAdd = 0;  // Badge didn't exist before clicking
 
         // Step 5: Verify Remove button is visible
-        System.out.println("\nStep 5: Verify Remove button is visible");
+        TestLog.info("Step 5: Verify Remove button is visible");
         Assert.assertTrue("Remove button should be visible after adding to cart",
             productPage.isRemoveButtonVisible());
 
         // Step 6: Verify cart badge is incremented
-        System.out.println("\nStep 6: Verify shopping cart badge is incremented");
+        TestLog.info("Step 6: Verify shopping cart badge is incremented");
         Assert.assertTrue("Shopping cart badge should be incremented",
             productPage.verifyCartBadgeIncremented(cartCountBeforeAdd));
 
         // Step 7: Open shopping cart
-        System.out.println("\nStep 7: Open shopping cart");
+        TestLog.info("Step 7: Open shopping cart");
         productPage.clickShoppingCart();
 
         // Step 8: Verify product in cart
-        System.out.println("\nStep 8: Verify product is in cart");
+        TestLog.info("Step 8: Verify product is in cart");
         Assert.assertTrue("Product should be visible in cart with correct name and price",
             cartPage.isProductInCart(productPage.getStoredProductName(), productPage.getStoredProductPrice()));
 
         // Step 9: Proceed to checkout
-        System.out.println("\nStep 9: Proceed to checkout");
+        TestLog.info("Step 9: Proceed to checkout");
         cartPage.clickCheckout();
 
         // Step 10: Fill shipping information
-        System.out.println("\nStep 10: Fill shipping information");
+        TestLog.info("Step 10: Fill shipping information");
         checkoutPage.fillCheckoutInformation();
 
         // Step 11: Continue to overview
-        System.out.println("\nStep 11: Continue to payment review");
+        TestLog.info("Step 11: Continue to payment review");
         checkoutPage.clickContinue();
 
         // Step 12: Verify product in overview
-        System.out.println("\nStep 12: Verify product in overview");
+        TestLog.info("Step 12: Verify product in overview");
         Assert.assertTrue("Product should be in overview with correct name and price",
             checkoutOverviewPage.isProductInOverview(productPage.getStoredProductName(), productPage.getStoredProductPrice()));
 
         // Step 13: Complete the order
-        System.out.println("\nStep 13: Complete the order");
+        TestLog.info("Step 13: Complete the order");
         checkoutOverviewPage.clickFinish();
 
         // Step 14: Verify order confirmation
-        System.out.println("\nStep 14: Verify order confirmation");
+        TestLog.info("Step 14: Verify order confirmation");
         Assert.assertTrue("Thank you message should be displayed",
             checkoutCompletePage.isThankYouMessageVisible());
 
         // Step 15: Go back home
-        System.out.println("\nStep 15: Go back to products page");
+        TestLog.info("Step 15: Go back to products page");
         checkoutCompletePage.clickBackHome();
 
         // Step 16: Verify back on products page
-        System.out.println("\nStep 16: Verify back on products page");
+        TestLog.info("Step 16: Verify back on products page");
         Assert.assertTrue("Products title should be visible",
             productPage.isProductsTitleVisible());
 
-        System.out.println("\n--- Complete Purchase Flow Test PASSED ---\n");
+        TestLog.info("--- Complete Purchase Flow Test PASSED ---");
     }
 
     @Test
@@ -174,44 +184,44 @@ public class ProductPurchaseTest extends BaseTest {
     }
 
     private void runTestAddLowestPriceRemoveAndLogout() {
-        System.out.println("\n--- Starting Cart Scenario: Lowest Price Add/Remove/Logout ---\n");
+        TestLog.info("--- Starting Cart Scenario: Lowest Price Add/Remove/Logout ---");
 
         // Step 1: Login
-        System.out.println("Step 1: Login to website");
+        TestLog.info("Step 1: Login to website");
         productPage.loginStandardUser();
         Assert.assertTrue("Products title should be visible after login",
             productPage.isProductsTitleVisible());
 
         // Step 2: Sort by price (low to high)
-        System.out.println("\nStep 2: Sort products by price (low to high)");
+        TestLog.info("Step 2: Sort products by price (low to high)");
         productPage.clickSortDropdown();
         productPage.selectPriceLowToHigh();
 
         // Step 3: Verify first item has lowest price
-        System.out.println("\nStep 3: Verify first item has lowest price");
+        TestLog.info("Step 3: Verify first item has lowest price");
         Assert.assertTrue("First item should have the lowest price",
             productPage.verifyFirstItemHasLowestPrice());
 
         // Step 4: Add lowest price item to cart
-        System.out.println("\nStep 4: Add lowest price item to cart");
+        TestLog.info("Step 4: Add lowest price item to cart");
         productPage.storeProductInfoAtPosition(1);
         productPage.clickAddToCartAtPosition(1);
         productPage.waitForCartBadgeCount(1);
         Assert.assertEquals("Cart badge should be 1", 1, productPage.getCartBadgeCount());
 
         // Step 5: Open shopping cart
-        System.out.println("\nStep 5: Open shopping cart");
+        TestLog.info("Step 5: Open shopping cart");
         productPage.clickShoppingCart();
 
         // Step 6: Remove item from cart
-        System.out.println("\nStep 6: Remove item from cart");
+        TestLog.info("Step 6: Remove item from cart");
         cartPage.removeAllItems();
 
         // Step 7: Logout
-        System.out.println("\nStep 7: Logout");
+        TestLog.info("Step 7: Logout");
         productPage.logout();
 
-        System.out.println("\n--- Cart Scenario PASSED ---\n");
+        TestLog.info("--- Cart Scenario PASSED ---");
     }
 
     @Test
@@ -225,55 +235,55 @@ public class ProductPurchaseTest extends BaseTest {
     }
 
     private void runTestAddLowestAndHighestRemoveAndLogout() {
-        System.out.println("\n--- Starting Cart Scenario: Lowest + Highest Add/Remove/Logout ---\n");
+        TestLog.info("--- Starting Cart Scenario: Lowest + Highest Add/Remove/Logout ---");
 
         // Step 1: Login
-        System.out.println("Step 1: Login to website");
+        TestLog.info("Step 1: Login to website");
         productPage.loginStandardUser();
         Assert.assertTrue("Products title should be visible after login",
             productPage.isProductsTitleVisible());
 
         // Step 2: Sort by price (low to high)
-        System.out.println("\nStep 2: Sort products by price (low to high)");
+        TestLog.info("Step 2: Sort products by price (low to high)");
         productPage.clickSortDropdown();
         productPage.selectPriceLowToHigh();
 
         // Step 3: Verify first item has lowest price
-        System.out.println("\nStep 3: Verify first item has lowest price");
+        TestLog.info("Step 3: Verify first item has lowest price");
         Assert.assertTrue("First item should have the lowest price",
             productPage.verifyFirstItemHasLowestPrice());
 
         // Step 4: Add lowest price item
-        System.out.println("\nStep 4: Add lowest price item to cart");
+        TestLog.info("Step 4: Add lowest price item to cart");
         productPage.storeProductInfoAtPosition(1);
         productPage.clickAddToCartAtPosition(1);
         productPage.waitForCartBadgeCount(1);
         Assert.assertEquals("Cart badge should be 1", 1, productPage.getCartBadgeCount());
 
         // Step 5: Switch to price (high to low)
-        System.out.println("\nStep 5: Switch to price (high to low) sorting");
+        TestLog.info("Step 5: Switch to price (high to low) sorting");
         productPage.clickSortDropdown();
         productPage.selectPriceHighToLow();
 
         // Step 6: Add highest price item (now at position 1)
-        System.out.println("\nStep 6: Add highest price item to cart");
+        TestLog.info("Step 6: Add highest price item to cart");
         productPage.clickAddToCartAtPosition(1);
         productPage.waitForCartBadgeCount(2);
         Assert.assertEquals("Cart badge should be 2", 2, productPage.getCartBadgeCount());
 
         // Step 7: Open shopping cart
-        System.out.println("\nStep 7: Open shopping cart");
+        TestLog.info("Step 7: Open shopping cart");
         productPage.clickShoppingCart();
 
         // Step 8: Remove all items from cart
-        System.out.println("\nStep 8: Remove all items from cart");
+        TestLog.info("Step 8: Remove all items from cart");
         cartPage.removeAllItems();
 
         // Step 9: Logout
-        System.out.println("\nStep 9: Logout");
+        TestLog.info("Step 9: Logout");
         productPage.logout();
 
-        System.out.println("\n--- Cart Scenario PASSED ---\n");
+        TestLog.info("--- Cart Scenario PASSED ---");
     }
 
     @Test
@@ -287,55 +297,55 @@ public class ProductPurchaseTest extends BaseTest {
     }
 
     private void runTestAddLowestAndHighestPersistAfterRelogin() {
-        System.out.println("\n--- Starting Cart Scenario: Persist After Relogin ---\n");
+        TestLog.info("--- Starting Cart Scenario: Persist After Relogin ---");
 
         // Step 1: Login
-        System.out.println("Step 1: Login to website");
+        TestLog.info("Step 1: Login to website");
         productPage.loginStandardUser();
         Assert.assertTrue("Products title should be visible after login",
             productPage.isProductsTitleVisible());
 
         // Step 2: Sort by price (low to high)
-        System.out.println("\nStep 2: Sort products by price (low to high)");
+        TestLog.info("Step 2: Sort products by price (low to high)");
         productPage.clickSortDropdown();
         productPage.selectPriceLowToHigh();
 
         // Step 3: Verify first item has lowest price
-        System.out.println("\nStep 3: Verify first item has lowest price");
+        TestLog.info("Step 3: Verify first item has lowest price");
         Assert.assertTrue("First item should have the lowest price",
             productPage.verifyFirstItemHasLowestPrice());
 
         // Step 4: Add lowest price item
-        System.out.println("\nStep 4: Add lowest price item to cart");
+        TestLog.info("Step 4: Add lowest price item to cart");
         productPage.storeProductInfoAtPosition(1);
         productPage.clickAddToCartAtPosition(1);
         productPage.waitForCartBadgeCount(1);
         Assert.assertEquals("Cart badge should be 1", 1, productPage.getCartBadgeCount());
 
         // Step 5: Switch to price (high to low)
-        System.out.println("\nStep 5: Switch to price (high to low) sorting");
+        TestLog.info("Step 5: Switch to price (high to low) sorting");
         productPage.clickSortDropdown();
         productPage.selectPriceHighToLow();
 
         // Step 6: Add highest price item (now at position 1)
-        System.out.println("\nStep 6: Add highest price item to cart");
+        TestLog.info("Step 6: Add highest price item to cart");
         productPage.clickAddToCartAtPosition(1);
         productPage.waitForCartBadgeCount(2);
         Assert.assertEquals("Cart badge should be 2", 2, productPage.getCartBadgeCount());
 
         // Step 7: Logout
-        System.out.println("\nStep 7: Logout");
+        TestLog.info("Step 7: Logout");
         productPage.logout();
 
         // Step 8: Login again
-        System.out.println("\nStep 8: Login again");
+        TestLog.info("Step 8: Login again");
         productPage.loginStandardUser();
 
         // Step 9: Verify cart badge persists with count 2
-        System.out.println("\nStep 9: Verify cart badge persists after relogin");
+        TestLog.info("Step 9: Verify cart badge persists after relogin");
         productPage.waitForCartBadgeCount(2);
         Assert.assertEquals("Cart badge should remain 2 after relogin", 2, productPage.getCartBadgeCount());
 
-        System.out.println("\n--- Cart Scenario PASSED ---\n");
+        TestLog.info("--- Cart Scenario PASSED ---");
     }
 }